@@ -0,0 +1,188 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.Arrays;
+
+/**
+ * Running totals of chunk sizes for {@link ChunkyLinkedList}, kept in a Fenwick
+ * tree (also called a binary indexed tree). It answers "which chunk holds item
+ * i?" and "how many items come before chunk c?" in O(log m) for m chunks,
+ * instead of walking the chunks and adding up their sizes.
+ *
+ * Slot k of the tree (counting from 1) holds the total of the lowbit(k) chunks
+ * ending at chunk k, where lowbit(k) is the lowest set bit of k.
+ *
+ * The chunks do not start at slot 1: {@link #rebuild} leaves empty slots in
+ * front of them, which hold 0 and so never change a total. A chunk added at the
+ * front takes the empty slot just before the first chunk, so nothing else has
+ * to move.
+ *
+ * Changing a chunk's size is O(log m), and so is adding or dropping the first
+ * or last chunk. Adding or removing a chunk anywhere else moves every later
+ * chunk, so the owner calls {@link #rebuild} for that, which is O(m).
+ */
+final class ChunkIndex {
+	private int[] tree;
+	/**
+	 * How many chunks we know about.
+	 */
+	private int count;
+	/**
+	 * How many empty slots come before the first chunk; chunk c is in slot
+	 * base + c + 1.
+	 */
+	private int base;
+
+	ChunkIndex() {
+		this.tree = new int[16];
+		this.count = 0;
+		this.base = 0;
+	}
+
+	/**
+	 * @return how many chunks we know about.
+	 */
+	int count() {
+		return count;
+	}
+
+	/**
+	 * Forget everything and index these chunk sizes instead, with as many empty
+	 * slots in front as there are chunks, so that many chunks can be added at the
+	 * front before the next rebuild. O(m)
+	 *
+	 * @param chunks - the chunks, in order.
+	 * @param count  - how many of them to index, from the front.
+	 */
+	void rebuild(P6List<? extends P6List<?>> chunks, int count) {
+		this.count = count;
+		this.base = Math.max(8, count);
+		int last = base + count;
+		if (tree.length <= last) {
+			tree = new int[Math.max(16, Integer.highestOneBit(last) * 2)];
+		} else {
+			Arrays.fill(tree, 0);
+		}
+		for (int k = base + 1; k <= last; k++) {
+			tree[k] += chunks.getIndex(k - base - 1).size();
+			// pass the total on to the next slot that covers this one.
+			int parent = k + (k & -k);
+			if (parent <= last) {
+				tree[parent] += tree[k];
+			}
+		}
+	}
+
+	/**
+	 * A chunk grew or shrank. O(log m)
+	 *
+	 * @param chunk - which chunk, from 0.
+	 * @param delta - how many items it gained; negative if it lost some.
+	 */
+	void add(int chunk, int delta) {
+		addAt(base + chunk + 1, delta);
+	}
+
+	/**
+	 * How many items are in the chunks before this one? O(log m)
+	 *
+	 * @param chunk - a number from 0 to count(), including count().
+	 * @return the index of the first item of that chunk.
+	 */
+	int prefix(int chunk) {
+		// the empty slots in front add nothing.
+		return sum(base + chunk);
+	}
+
+	/**
+	 * Find the chunk that holds an item, by going down the tree one bit at a time
+	 * (binary lifting) instead of doing a binary search over prefix(). O(log m)
+	 *
+	 * @param index - the index of an item in the whole list.
+	 * @return the first chunk with prefix(chunk + 1) greater than index, or
+	 *         count() if the index is past the end.
+	 */
+	int find(int index) {
+		int last = base + count;
+		int position = 0;
+		int remaining = index;
+		for (int step = Integer.highestOneBit(Math.max(1, last)); step > 0; step >>= 1) {
+			int next = position + step;
+			if (next <= last && tree[next] <= remaining) {
+				position = next;
+				remaining -= tree[next];
+			}
+		}
+		// the empty slots in front total 0, so we always get at least that far.
+		return position - base;
+	}
+
+	/**
+	 * Add a chunk after the last one. O(log m)
+	 *
+	 * @param size - how many items it has.
+	 */
+	void append(int size) {
+		int k = base + ++count;
+		if (k >= tree.length) {
+			tree = Arrays.copyOf(tree, tree.length * 2);
+		}
+		// slot k covers chunks (k - lowbit(k), k].
+		tree[k] = size + sum(k - 1) - sum(k - (k & -k));
+	}
+
+	/**
+	 * Forget the last chunk. No other slot includes it, so this is O(1).
+	 */
+	void removeLast() {
+		tree[base + count--] = 0;
+	}
+
+	/**
+	 * Add a chunk before the first one, in the empty slot in front of it.
+	 * O(log m)
+	 *
+	 * @param size - how many items it has.
+	 * @return false if there is no empty slot left; then nothing changed and the
+	 *         owner has to {@link #rebuild}.
+	 */
+	boolean prepend(int size) {
+		if (base == 0) {
+			return false;
+		}
+		int slot = base--;
+		count++;
+		addAt(slot, size);
+		return true;
+	}
+
+	/**
+	 * Forget the first chunk. Its slot becomes one of the empty ones in front.
+	 * O(log m)
+	 */
+	void removeFirst() {
+		int slot = base + 1;
+		addAt(slot, -(sum(slot) - sum(base)));
+		base++;
+		count--;
+	}
+
+	/**
+	 * The total of slots 1 to k.
+	 */
+	private int sum(int k) {
+		int total = 0;
+		for (; k > 0; k -= k & -k) {
+			total += tree[k];
+		}
+		return total;
+	}
+
+	/**
+	 * Add to slot k and every slot after it that covers it.
+	 */
+	private void addAt(int k, int delta) {
+		for (int last = base + count; k <= last; k += k & -k) {
+			tree[k] += delta;
+		}
+	}
+}
@@ -0,0 +1,373 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.Random;
+
+/**
+ * Picks a chunkSize for {@link ChunkyLinkedList} by trying several on this JVM
+ * and this machine, instead of guessing. It runs the same short, seeded
+ * workload against a list of each candidate size and reports which one was
+ * fastest and which one used the least memory.
+ *
+ * <pre>
+ * ChunkSizeCalibrator calibrator = new ChunkSizeCalibrator(new ChunkSizeCalibrator.OpMix(70, 10, 15, 5));
+ * ChunkSizeCalibrator.Config config = calibrator.calibrate();
+ * ChunkyLinkedList&lt;String&gt; list = config.newFastestList();
+ * </pre>
+ *
+ * Timings are only as good as the machine is quiet, so the fastest size can
+ * change from run to run when two candidates are close. The memory numbers only
+ * depend on the workload, so they are the same every time.
+ */
+public class ChunkSizeCalibrator {
+	/**
+	 * Rough sizes in bytes, for a 64-bit JVM with compressed pointers: an object
+	 * header, one reference, and the fixed part of a FixedSizeList (header, array
+	 * reference, head and fill).
+	 */
+	private static final int ARRAY_HEADER = 16;
+	private static final int REFERENCE = 4;
+	private static final int CHUNK_OBJECT = 24;
+
+	private final OpMix mix;
+	private int[] candidates = { 8, 16, 32, 64, 128, 256, 512 };
+	private int initialSize = 10000;
+	private int operations = 20000;
+	private int rounds = 3;
+	private long seed = 0x5eed;
+
+	/**
+	 * @param mix - what the workload does.
+	 */
+	public ChunkSizeCalibrator(OpMix mix) {
+		this.mix = mix;
+	}
+
+	/**
+	 * @param candidates - the chunk sizes to try, each at least 1.
+	 */
+	public void setCandidates(int... candidates) {
+		if (candidates.length == 0) {
+			throw new IllegalArgumentException("need at least one candidate");
+		}
+		for (int size : candidates) {
+			if (size < 1) {
+				throw new IllegalArgumentException("bad chunk size: " + size);
+			}
+		}
+		this.candidates = candidates.clone();
+	}
+
+	/**
+	 * @param initialSize - how many items the list has before the workload starts.
+	 */
+	public void setInitialSize(int initialSize) {
+		if (initialSize < 0) {
+			throw new IllegalArgumentException("bad initial size: " + initialSize);
+		}
+		this.initialSize = initialSize;
+	}
+
+	/**
+	 * @param operations - how many operations one run of the workload does.
+	 */
+	public void setOperations(int operations) {
+		if (operations < 1) {
+			throw new IllegalArgumentException("bad operation count: " + operations);
+		}
+		this.operations = operations;
+	}
+
+	/**
+	 * @param rounds - how many times to run each candidate; we keep the fastest.
+	 */
+	public void setRounds(int rounds) {
+		if (rounds < 1) {
+			throw new IllegalArgumentException("bad round count: " + rounds);
+		}
+		this.rounds = rounds;
+	}
+
+	/**
+	 * @param seed - picks the workload; the same seed gives the same operations.
+	 */
+	public void setSeed(long seed) {
+		this.seed = seed;
+	}
+
+	/**
+	 * Run the workload against every candidate. Each one gets a warm-up run
+	 * first, so the JIT has compiled the list code before we time anything.
+	 *
+	 * @return what we found.
+	 */
+	public Config calibrate() {
+		Plan plan = new Plan(mix, initialSize, operations, new Random(seed));
+		GrowableList<Measurement> results = new GrowableList<>(candidates.length);
+		// everything the workload read, kept in the result so the JIT cannot skip it.
+		long checksum = 0;
+		for (int chunkSize : candidates) {
+			checksum += run(plan, filled(chunkSize));
+			long best = Long.MAX_VALUE;
+			ChunkyLinkedList<Integer> list = null;
+			for (int r = 0; r < rounds; r++) {
+				// only the planned operations are timed, not filling the list.
+				list = filled(chunkSize);
+				long start = System.nanoTime();
+				checksum += run(plan, list);
+				best = Math.min(best, System.nanoTime() - start);
+			}
+			results.addBack(new Measurement(chunkSize, (double) best / operations, bytesPerItem(list)));
+		}
+		return new Config(results, checksum);
+	}
+
+	/**
+	 * A new list with initialSize items in it.
+	 */
+	private ChunkyLinkedList<Integer> filled(int chunkSize) {
+		ChunkyLinkedList<Integer> list = new ChunkyLinkedList<>(chunkSize);
+		for (int i = 0; i < initialSize; i++) {
+			list.addBack(i);
+		}
+		return list;
+	}
+
+	/**
+	 * Do the whole plan to a list.
+	 *
+	 * @return the sum of every item the plan read or removed.
+	 */
+	private static long run(Plan plan, ChunkyLinkedList<Integer> list) {
+		long total = 0;
+		for (int i = 0; i < plan.ops.length; i++) {
+			switch (plan.ops[i]) {
+			case Plan.GET_INDEX:
+				total += list.getIndex(plan.indices[i]);
+				break;
+			case Plan.ADD_INDEX:
+				list.addIndex(i, plan.indices[i]);
+				break;
+			case Plan.ADD_BACK:
+				list.addBack(i);
+				break;
+			default:
+				total += list.removeFront();
+				break;
+			}
+		}
+		return total;
+	}
+
+	/**
+	 * Estimate the memory a list uses for each of its items: the arrays of all
+	 * chunks, the chunk objects, and the spine that points to them.
+	 */
+	private static double bytesPerItem(ChunkyLinkedList<?> list) {
+		if (list.isEmpty()) {
+			return 0.0;
+		}
+		double slots = list.size() / list.fillFactor();
+		double bytes = slots * REFERENCE + list.chunkCount() * (double) (CHUNK_OBJECT + ARRAY_HEADER + REFERENCE);
+		return bytes / list.size();
+	}
+
+	/**
+	 * How often the workload does each operation, as relative weights: an OpMix of
+	 * (3, 1, 0, 0) does three getIndex calls for every addIndex.
+	 */
+	public static final class OpMix {
+		private final int getIndex;
+		private final int addIndex;
+		private final int addBack;
+		private final int removeFront;
+
+		/**
+		 * @param getIndex    - weight of getIndex at a random index.
+		 * @param addIndex    - weight of addIndex at a random index.
+		 * @param addBack     - weight of addBack.
+		 * @param removeFront - weight of removeFront.
+		 */
+		public OpMix(int getIndex, int addIndex, int addBack, int removeFront) {
+			if (getIndex < 0 || addIndex < 0 || addBack < 0 || removeFront < 0
+					|| getIndex + addIndex + addBack + removeFront == 0) {
+				throw new IllegalArgumentException("weights must not be negative or all zero");
+			}
+			this.getIndex = getIndex;
+			this.addIndex = addIndex;
+			this.addBack = addBack;
+			this.removeFront = removeFront;
+		}
+
+		@Override
+		public String toString() {
+			return "OpMix(getIndex=" + getIndex + ", addIndex=" + addIndex + ", addBack=" + addBack
+					+ ", removeFront=" + removeFront + ")";
+		}
+	}
+
+	/**
+	 * The operations of one workload, decided ahead of time so every candidate
+	 * does exactly the same thing and no random numbers are made while timing.
+	 */
+	private static final class Plan {
+		static final byte GET_INDEX = 0;
+		static final byte ADD_INDEX = 1;
+		static final byte ADD_BACK = 2;
+		static final byte REMOVE_FRONT = 3;
+
+		final byte[] ops;
+		final int[] indices;
+
+		Plan(OpMix mix, int initialSize, int operations, Random rand) {
+			ops = new byte[operations];
+			indices = new int[operations];
+			int total = mix.getIndex + mix.addIndex + mix.addBack + mix.removeFront;
+			// the list size changes the same way for every candidate, so we can track
+			// it here and pick indices that are always valid.
+			int size = initialSize;
+			for (int i = 0; i < operations; i++) {
+				int pick = rand.nextInt(total);
+				byte op;
+				if (pick < mix.getIndex) {
+					op = GET_INDEX;
+				} else if (pick < mix.getIndex + mix.addIndex) {
+					op = ADD_INDEX;
+				} else if (pick < mix.getIndex + mix.addIndex + mix.addBack) {
+					op = ADD_BACK;
+				} else {
+					op = REMOVE_FRONT;
+				}
+				if (size == 0 && (op == GET_INDEX || op == REMOVE_FRONT)) {
+					// nothing to read or remove yet.
+					op = ADD_BACK;
+				}
+				ops[i] = op;
+				if (op == GET_INDEX) {
+					indices[i] = rand.nextInt(size);
+				} else if (op == ADD_INDEX) {
+					indices[i] = rand.nextInt(size + 1);
+				}
+				size += (op == ADD_INDEX || op == ADD_BACK) ? 1 : (op == REMOVE_FRONT ? -1 : 0);
+			}
+		}
+	}
+
+	/**
+	 * What we saw for one chunk size.
+	 */
+	public static final class Measurement {
+		private final int chunkSize;
+		private final double nanosPerOp;
+		private final double bytesPerItem;
+
+		Measurement(int chunkSize, double nanosPerOp, double bytesPerItem) {
+			this.chunkSize = chunkSize;
+			this.nanosPerOp = nanosPerOp;
+			this.bytesPerItem = bytesPerItem;
+		}
+
+		public int getChunkSize() {
+			return chunkSize;
+		}
+
+		/**
+		 * @return the average time of one operation in the fastest round.
+		 */
+		public double getNanosPerOp() {
+			return nanosPerOp;
+		}
+
+		/**
+		 * @return the estimated memory per item after the workload.
+		 */
+		public double getBytesPerItem() {
+			return bytesPerItem;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("chunkSize=%d: %.1f ns/op, %.1f bytes/item", chunkSize, nanosPerOp, bytesPerItem);
+		}
+	}
+
+	/**
+	 * The result of a calibration: the best chunk sizes, and a way to make lists
+	 * with them. Keep it around and reuse it instead of calibrating again.
+	 */
+	public static final class Config {
+		private final GrowableList<Measurement> measurements;
+		private final int throughputOptimal;
+		private final int memoryOptimal;
+		/**
+		 * The sum of everything the workloads read. Nobody needs it; it is here so
+		 * the timed work has a result and cannot be optimized away.
+		 */
+		final long checksum;
+
+		Config(GrowableList<Measurement> measurements, long checksum) {
+			this.measurements = measurements;
+			this.checksum = checksum;
+			Measurement fastest = measurements.getFront();
+			Measurement smallest = measurements.getFront();
+			for (int i = 1; i < measurements.size(); i++) {
+				Measurement m = measurements.getIndex(i);
+				if (m.nanosPerOp < fastest.nanosPerOp) {
+					fastest = m;
+				}
+				if (m.bytesPerItem < smallest.bytesPerItem) {
+					smallest = m;
+				}
+			}
+			this.throughputOptimal = fastest.chunkSize;
+			this.memoryOptimal = smallest.chunkSize;
+		}
+
+		/**
+		 * @return the chunk size that did the workload the fastest.
+		 */
+		public int getThroughputOptimal() {
+			return throughputOptimal;
+		}
+
+		/**
+		 * @return the chunk size that used the least memory per item.
+		 */
+		public int getMemoryOptimal() {
+			return memoryOptimal;
+		}
+
+		/**
+		 * @return one measurement for every candidate, in the order they were tried.
+		 */
+		public GrowableList<Measurement> getMeasurements() {
+			GrowableList<Measurement> copy = new GrowableList<>(measurements.size());
+			copy.addAll(0, measurements);
+			return copy;
+		}
+
+		/**
+		 * @return a new, empty list with the fastest chunk size.
+		 */
+		public <T> ChunkyLinkedList<T> newFastestList() {
+			return new ChunkyLinkedList<>(throughputOptimal);
+		}
+
+		/**
+		 * @return a new, empty list with the smallest chunk size.
+		 */
+		public <T> ChunkyLinkedList<T> newSmallestList() {
+			return new ChunkyLinkedList<>(memoryOptimal);
+		}
+
+		@Override
+		public String toString() {
+			StringBuilder out = new StringBuilder();
+			out.append("throughput-optimal chunkSize=").append(throughputOptimal);
+			out.append(", memory-optimal chunkSize=").append(memoryOptimal);
+			for (int i = 0; i < measurements.size(); i++) {
+				out.append("\n  ").append(measurements.getIndex(i));
+			}
+			return out.toString();
+		}
+	}
+}
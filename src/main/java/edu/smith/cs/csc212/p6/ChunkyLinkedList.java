@@ -1,5 +1,13 @@
 package edu.smith.cs.csc212.p6;
 
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 import edu.smith.cs.csc212.p6.errors.BadIndexError;
 import edu.smith.cs.csc212.p6.errors.EmptyListError;
 
@@ -7,20 +15,115 @@ import edu.smith.cs.csc212.p6.errors.EmptyListError;
  * This is a data structure that has an array inside each node of a Linked List.
  * Therefore, we only make new nodes when they are full. Some remove operations
  * may be easier if you allow "chunks" to be partially filled.
- * 
+ *
+ * The chunks are kept in order in a circular FixedSizeList (the "spine") that
+ * doubles when it is full, so a chunk can be added or dropped at either end
+ * without moving the others. A {@link ChunkIndex} keeps running totals of their
+ * sizes, so finding the chunk that holds an index takes O(log(n / chunkSize))
+ * instead of a walk over every chunk. The last chunk is left out of the index,
+ * so adding and removing at the back never touches it, and the index has room
+ * in front, so a new first chunk does not make us rebuild it. We never keep an
+ * empty chunk around, and we count the items as we go so size() is O(1).
+ *
+ * Like the leaves of a B+ tree, a full chunk is split in half when we add in
+ * the middle of it, and a chunk that gets less than a quarter full is merged
+ * with a neighbor or borrows items from it, so lots of removes do not leave a
+ * long tail of nearly empty chunks behind. See {@link #fillFactor()}.
+ *
+ * A list made with {@link #ChunkyLinkedList(int, int)} picks its own chunk size
+ * for new chunks: bigger when most operations are at the ends or reads, which
+ * bigger chunks make cheaper, and smaller when most are adds and removes in the
+ * middle, which have to shift a whole chunk.
+ *
+ * Loops and streams read the chunk arrays directly instead of calling getIndex,
+ * and a parallel stream hands whole chunks to each thread. Do not change the
+ * list while a loop or stream over it is running.
+ *
  * @author jfoley
  * @param <T> - the type of item stored in the list.
  */
-public class ChunkyLinkedList<T> implements P6List<T> {
+public class ChunkyLinkedList<T> implements P6List<T>, Iterable<T> {
+	/**
+	 * How many operations we watch before deciding whether to change the chunk
+	 * size.
+	 */
+	public static final int ADAPT_WINDOW = 1024;
+	/**
+	 * How many chunks the spine holds before it first has to grow.
+	 */
+	private static final int SPINE_START = 16;
+
+	/**
+	 * How big new chunks are. Older chunks keep the size they were made with.
+	 */
 	private int chunkSize;
-	private SinglyLinkedList<FixedSizeList<T>> chunks;
+	/**
+	 * The smallest and biggest chunkSize can get; the same when it never changes.
+	 */
+	private final int minChunkSize;
+	private final int maxChunkSize;
+	private FixedSizeList<FixedSizeList<T>> chunks;
+	/**
+	 * Running totals of the sizes of every chunk but the last. The last chunk has
+	 * whatever items the others do not, which keeps the back of the list O(1).
+	 */
+	private ChunkIndex index;
+	/**
+	 * How many items are in all the chunks together.
+	 */
+	private int size;
+	/**
+	 * How many items fit in all the chunks together.
+	 */
+	private long capacity;
+	/**
+	 * How many operations we have seen in this window, and how many of those were
+	 * in the middle of the list.
+	 */
+	private int observed;
+	private int middleOps;
+	/**
+	 * How many times chunkSize has changed.
+	 */
+	private int adaptations;
+	/**
+	 * Told the old and new chunk size every time it changes; may be null.
+	 */
+	private BiConsumer<Integer, Integer> onAdapt;
 
+	/**
+	 * Make a list where every chunk holds the same number of items.
+	 *
+	 * @param chunkSize - how many items fit in a chunk.
+	 */
 	public ChunkyLinkedList(int chunkSize) {
+		this(chunkSize, chunkSize, chunkSize);
+	}
+
+	/**
+	 * Make a list that changes the size of new chunks to fit how it is used.
+	 *
+	 * @param minChunkSize - the smallest chunks to make, at least 2.
+	 * @param maxChunkSize - the biggest chunks to make.
+	 */
+	public ChunkyLinkedList(int minChunkSize, int maxChunkSize) {
+		this((int) Math.sqrt((double) minChunkSize * maxChunkSize), minChunkSize, maxChunkSize);
+		if (minChunkSize < 2 || minChunkSize > maxChunkSize) {
+			throw new IllegalArgumentException("bad chunk sizes: " + minChunkSize + " to " + maxChunkSize);
+		}
+	}
+
+	private ChunkyLinkedList(int chunkSize, int minChunkSize, int maxChunkSize) {
 		this.chunkSize = chunkSize;
-		chunks = new SinglyLinkedList<>();
-		chunks.addBack(new FixedSizeList<>(chunkSize));
+		this.minChunkSize = minChunkSize;
+		this.maxChunkSize = maxChunkSize;
+		chunks = new FixedSizeList<>(SPINE_START);
+		index = new ChunkIndex();
+		size = 0;
+		capacity = 0;
 	}
 
+	// O(1), plus O(log(n / chunkSize)) when the first chunk runs out
 	@Override
 	public T removeFront() {
 		// check if the chunk is empty
@@ -28,18 +131,16 @@ public class ChunkyLinkedList<T> implements P6List<T> {
 			// throw empty list error
 			throw new EmptyListError();
 		} else {
+			observe(false);
 			// we first go and get the first chunk
 			FixedSizeList<T> firstChunk = this.chunks.getFront();
 			T value = firstChunk.removeFront();
-			if (firstChunk.isEmpty()) {
-				this.chunks.removeFront();
-			}
+			changed(0, -1);
 			return value;
 		}
 	}
 
-	// O(n) because we're just accessing last item
-	// and using get back method that is also O(n)
+	// O(1), plus O(chunkSize) now and then to rebalance the last chunk
 	@Override
 	public T removeBack() {
 		// check if the chunk is empty
@@ -47,26 +148,18 @@ public class ChunkyLinkedList<T> implements P6List<T> {
 			// throw empty list error
 			throw new EmptyListError();
 		} else {
-			// we first go and get the first chunk
+			observe(false);
+			// we first go and get the last chunk
 			FixedSizeList<T> lastChunk = this.chunks.getBack();
 			T value = lastChunk.removeBack();
-			if (lastChunk.isEmpty()) {
-				this.chunks.removeBack();
-			}
+			changed(chunks.size() - 1, -1);
 			return value;
 		}
 	}
 
 	/*
-	 * O(n^2)
-	 * 
-	 * 1) O(n) because we're using a for loop that iterates over the list and uses
-	 * the methods size and remove index.
-	 * 
-	 * 2) Because of these two methods together, we will also have O(2n) ( see
-	 * FixedSizedList )
-	 * 
-	 * Together, and because they're nested within each other, O(n^2)
+	 * O(log(n / chunkSize)) to find the chunk, plus O(chunkSize) to remove from
+	 * it.
 	 */
 	@Override
 	public T removeIndex(int index) {
@@ -74,137 +167,84 @@ public class ChunkyLinkedList<T> implements P6List<T> {
 		if (this.isEmpty()) {
 			// throw empty list error
 			throw new EmptyListError();
-		} else {
-			// have a start value of 0 (a counter)
-			int start = 0;
-
-			// go through the chunks in the linked list
-			for (FixedSizeList<T> chunk : this.chunks) {
-				// calculate bounds of this chunk.
-				int end = start + chunk.size();
-
-				// Check whether the index should be in this chunk:
-				if (start <= index && index < end) {
-					return chunk.removeIndex(index - start);
-				}
-
-				// update bounds of next chunk.
-				start = end;
-			}
 		}
-		throw new BadIndexError();
+		checkIndex(index, size - 1);
+		observe(index > 0 && index < size - 1);
+		int chunkNo = this.index.find(index);
+		T value = chunks.getIndex(chunkNo).removeIndex(index - this.index.prefix(chunkNo));
+		changed(chunkNo, -1);
+		return value;
 	}
 
-	// O(1)
-	// all used methods are O(1)
+	// O(1), plus O(log(n / chunkSize)) once per chunkSize adds
 	@Override
 	public void addFront(T item) {
-		// we first go and get the first chunk
-		FixedSizeList<T> firstChunk = this.chunks.getFront();
-
-		// if the first chunk has no empty spacre for our item
-		if (firstChunk.size() == chunkSize) {
-			// make a new chunk
-			FixedSizeList<T> newChunk = new FixedSizeList<T>(chunkSize);
-			// add chunk to the front
-			chunks.addFront(newChunk);
-			// add item to front of the chunk
-			newChunk.addFront(item);
-		} else {
-			// if it's not full, just add it to the front of the front chunk
-			firstChunk.addFront(item);
+		observe(false);
+		// if there is no first chunk or it has no empty space for our item
+		if (chunks.isEmpty() || isFull(chunks.getFront())) {
+			// make a new chunk at the front
+			insertChunk(0);
 		}
+		// add it to the front of the front chunk
+		chunks.getFront().addFront(item);
+		changed(0, 1);
 	}
 
-	/*
-	 * O(n) because we're using methods (except for size and fixed sized list add
-	 * back) from singly linked list that take up O(n) time
-	 */
+	// O(1), plus O(log(n / chunkSize)) once per chunkSize adds
 	@Override
 	public void addBack(T item) {
-		if (this.chunks.isEmpty()) {
-			this.chunks.addBack(new FixedSizeList<T>(this.chunkSize));
-		}
-		// we first go and get the last chunk
-		FixedSizeList<T> lastChunk = this.chunks.getBack();
-
-		// if the last chunk has no empty spacre for our item
-		if (lastChunk.size() == chunkSize) {
-			// make a new chunk
-			FixedSizeList<T> newChunk = new FixedSizeList<T>(chunkSize);
-			// add chunk to the back
-			chunks.addBack(newChunk);
-			// add item to back of the chunk
-			newChunk.addBack(item);
-		} else {
-			// if it's not full, just add it to the back of the last chunk
-			lastChunk.addBack(item);
+		observe(false);
+		// if there is no last chunk or it has no empty space for our item
+		if (chunks.isEmpty() || isFull(chunks.getBack())) {
+			// make a new chunk at the back; the old last chunk joins the index, which
+			// is O(log(n / chunkSize)) but only happens once every chunkSize adds.
+			if (!chunks.isEmpty()) {
+				this.index.append(chunks.getBack().size());
+			}
+			spineRoom(1);
+			chunks.addBack(new FixedSizeList<T>(chunkSize));
+			capacity += chunkSize;
 		}
+		// add it to the back of the last chunk
+		chunks.getBack().addBack(item);
+		changed(chunks.size() - 1, 1);
 	}
 
 	/*
-	 * 1) O(n) --> for loop that iterates through the list
-	 * 
-	 * 2) O(n) --> method add index from SLL (also remember that it is nested within
-	 * the for loop)
-	 * 
-	 * TOTAL O(n^2)
+	 * O(log(n / chunkSize)) to find the chunk, plus O(chunkSize) to add to it, plus
+	 * O(n / chunkSize) when the chunk is full and we need a new one.
 	 */
 	@Override
 	public void addIndex(T item, int index) {
-		// error debug print statement
-		// System.err.println(">>AddIndex: "+index+" in size="+size());
-		
-		// check if list is empty 
-		if (this.isEmpty()) {
-			// throw empty list error
-			this.addFront(item);
-		} 
-		else {
-			// have a start value of 0 (a counter)
-			int chunkNo = 0;
-			
-			// initialize start value at 0 
-			int start = 0;
-			
-			// go through the chunks in the linked list
-			for (FixedSizeList<T> chunk : this.chunks) {
-				// calculate bounds of this chunk.
-				int end = start + chunk.size();
-				
-				// Check whether the index should be in this chunk:
-				if (start <= index && index <= end) {
-					// if the chunk is full
-					if (chunk.size() == chunkSize) {
-						// make new chunk because there is no space
-						FixedSizeList<T> newChunk = new FixedSizeList<T>(chunkSize);
-
-						// add it to our list
-						chunks.addIndex(newChunk, chunkNo + 1);
-						if (index == end) {
-							newChunk.addFront(item);
-						} else {
-							// add item to the middle of chunk:
-							newChunk.addFront(chunk.removeBack());
-							chunk.addIndex(item, index - start);
-						}
-					}
-
-					else {
-						// just add an item to the chunk
-						chunk.addIndex(item, (index - start));
-					}
-					return;
-				}
-				// increment the chunk number
-				chunkNo++;
-
-				// set start to end so it can go to the next chunk
-				start = end;
-			}
-			// if we get here, that means the index does not exist
-			throw new BadIndexError();
+		checkIndex(index, size);
+		if (index == size) {
+			addBack(item);
+			return;
 		}
+		observe(index > 0);
+		int chunkNo = this.index.find(index);
+		FixedSizeList<T> chunk = chunks.getIndex(chunkNo);
+		int offset = index - this.index.prefix(chunkNo);
+
+		// the item could also go at the end of the chunk before, if that has room.
+		boolean roomBefore = offset == 0 && chunkNo > 0 && !isFull(chunks.getIndex(chunkNo - 1));
+		if (isFull(chunk) && !roomBefore) {
+			// split it like a B+ tree leaf, so the pieces have room for the next few
+			// adds, and look again.
+			split(chunkNo);
+			chunkNo = this.index.find(index);
+			chunk = chunks.getIndex(chunkNo);
+			offset = index - this.index.prefix(chunkNo);
+		}
+		if (isFull(chunk)) {
+			// only happens at the start of a chunk, when the one before has room.
+			chunkNo--;
+			chunk = chunks.getIndex(chunkNo);
+			offset = chunk.size();
+		}
+		// add item to the middle of chunk
+		chunk.addIndex(item, offset);
+		changed(chunkNo, 1);
 	}
 
 	/*
@@ -212,19 +252,27 @@ public class ChunkyLinkedList<T> implements P6List<T> {
 	 */
 	@Override
 	public T getFront() {
+		if (this.isEmpty()) {
+			throw new EmptyListError();
+		}
+		observe(false);
 		return this.chunks.getFront().getFront();
 	}
 
 	/*
-	 * O(n) --> get back from singly linked list requires O(n) time
+	 * O(1) --> the spine is a circular FixedSizeList, so its back is easy to get
 	 */
 	@Override
 	public T getBack() {
+		if (this.isEmpty()) {
+			throw new EmptyListError();
+		}
+		observe(false);
 		return this.chunks.getBack().getBack();
 	}
 
 	/*
-	 * O(n) because of the for loop that goes through the list
+	 * O(log(n / chunkSize)) to find the right chunk in the index
 	 */
 	@Override
 	public T getIndex(int index) {
@@ -232,36 +280,18 @@ public class ChunkyLinkedList<T> implements P6List<T> {
 		if (this.isEmpty()) {
 			throw new EmptyListError();
 		}
-		// start a counter
-		int start = 0;
-
-		// go through every chunk in the linked list
-		for (FixedSizeList<T> chunk : this.chunks) {
-			// calculate bounds of this chunk.
-			int end = start + chunk.size();
-
-			// Check whether the index should be in this chunk:
-			if (start <= index && index < end) {
-				return chunk.getIndex(index - start);
-			}
-
-			// update bounds of next chunk.
-			start = end;
-		}
-		// if we get here, that means the index does not exist
-		throw new BadIndexError();
+		checkIndex(index, size - 1);
+		observe(false);
+		int chunkNo = this.index.find(index);
+		return chunks.getIndex(chunkNo).getIndex(index - this.index.prefix(chunkNo));
 	}
 
 	/*
-	 * O(n) due to for loop
+	 * O(1), we keep count
 	 */
 	@Override
 	public int size() {
-		int total = 0;
-		for (FixedSizeList<T> chunk : this.chunks) {
-			total += chunk.size();
-		}
-		return total;
+		return size;
 	}
 
 	/*
@@ -271,4 +301,412 @@ public class ChunkyLinkedList<T> implements P6List<T> {
 	public boolean isEmpty() {
 		return this.size() == 0;
 	}
+
+	/**
+	 * @return how many chunks there are right now.
+	 */
+	public int chunkCount() {
+		return chunks.size();
+	}
+
+	/**
+	 * How much of the space in our chunks is actually used: 1.0 if every chunk is
+	 * full, and closer to 0 the more space is wasted. O(1)
+	 *
+	 * @return size() divided by the room in all the chunks, or 1.0 if there are
+	 *         no chunks at all.
+	 */
+	public double fillFactor() {
+		if (capacity == 0) {
+			return 1.0;
+		}
+		return size / (double) capacity;
+	}
+
+	/**
+	 * @return how many items fit in the chunks we make now.
+	 */
+	public int getChunkSize() {
+		return chunkSize;
+	}
+
+	/**
+	 * @return how many times the list has changed its chunk size; always 0 for a
+	 *         list made with a single chunk size.
+	 */
+	public int getAdaptations() {
+		return adaptations;
+	}
+
+	/**
+	 * Find out whenever the list changes its chunk size.
+	 *
+	 * @param onAdapt - called with the old and the new size; null to stop.
+	 */
+	public void setAdaptationListener(BiConsumer<Integer, Integer> onAdapt) {
+		this.onAdapt = onAdapt;
+	}
+
+	/**
+	 * Implement iterator() so that {@code ChunkyLinkedList} can be used in a for
+	 * loop.
+	 *
+	 * @return an object that understands "next()" and "hasNext()".
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return Spliterators.iterator(spliterator());
+	}
+
+	/**
+	 * @return a spliterator that splits between chunks, so every part of a
+	 *         parallel stream works on whole chunks.
+	 */
+	@Override
+	public Spliterator<T> spliterator() {
+		return new ChunkSpliterator(0, chunks.size(), 0, size);
+	}
+
+	/**
+	 * @return a sequential stream of the items, in order.
+	 */
+	public Stream<T> stream() {
+		return StreamSupport.stream(spliterator(), false);
+	}
+
+	/**
+	 * @return a stream of the items that may be processed by many threads at once,
+	 *         in the fork-join common pool.
+	 */
+	public Stream<T> parallelStream() {
+		return StreamSupport.stream(spliterator(), true);
+	}
+
+	/**
+	 * Helper method to throw the right error for an index out of bounds. O(1)
+	 *
+	 * @param index - the index the user asked for.
+	 * @param max   - the largest index that makes sense for this operation.
+	 */
+	private void checkIndex(int index, int max) {
+		if (index < 0 || index > max) {
+			throw new BadIndexError();
+		}
+	}
+
+	private boolean isFull(FixedSizeList<T> chunk) {
+		return chunk.size() == chunk.capacity();
+	}
+
+	/**
+	 * Count one operation, and at the end of every window maybe change the chunk
+	 * size. Operations in the middle shift a whole chunk, so if they are most of
+	 * the work, new chunks get smaller. If they are rare, reads and work at the
+	 * ends dominate; those get cheaper with fewer, bigger chunks, so new chunks
+	 * get bigger, as long as the chunks we have are not mostly empty.
+	 *
+	 * @param middle - true for an add or remove away from the ends.
+	 */
+	private void observe(boolean middle) {
+		if (minChunkSize == maxChunkSize) {
+			return;
+		}
+		if (middle) {
+			middleOps++;
+		}
+		if (++observed < ADAPT_WINDOW) {
+			return;
+		}
+		int next = chunkSize;
+		if (middleOps * 2 > observed) {
+			next = Math.max(minChunkSize, chunkSize / 2);
+		} else if (middleOps * 8 < observed && fillFactor() >= 0.5) {
+			next = Math.min(maxChunkSize, chunkSize * 2);
+		}
+		observed = 0;
+		middleOps = 0;
+		if (next != chunkSize) {
+			int old = chunkSize;
+			chunkSize = next;
+			adaptations++;
+			if (onAdapt != null) {
+				onAdapt.accept(old, next);
+			}
+		}
+	}
+
+	/**
+	 * Put a new, empty chunk into the spine. O(log(n / chunkSize)) at the front,
+	 * where the index has room for it, and O(n / chunkSize) to re-index anywhere
+	 * else or once that room runs out.
+	 *
+	 * @param chunkNo - where it goes among the chunks.
+	 * @return the new chunk.
+	 */
+	private FixedSizeList<T> insertChunk(int chunkNo) {
+		FixedSizeList<T> chunk = new FixedSizeList<T>(chunkSize);
+		spineRoom(1);
+		chunks.addIndex(chunk, chunkNo);
+		capacity += chunkSize;
+		if (chunkNo == 0 && chunks.size() > 1 && this.index.prepend(0)) {
+			return chunk;
+		}
+		reindex();
+		return chunk;
+	}
+
+	/**
+	 * Make sure the spine has room for more chunks, doubling it if not. O(1), plus
+	 * O(n / chunkSize) when it grows.
+	 *
+	 * @param more - how many chunks we are about to add.
+	 */
+	private void spineRoom(int more) {
+		if (chunks.size() + more > chunks.capacity()) {
+			FixedSizeList<FixedSizeList<T>> bigger = new FixedSizeList<>(
+					Math.max(chunks.capacity() * 2, chunks.size() + more));
+			bigger.addAll(0, chunks);
+			chunks = bigger;
+		}
+	}
+
+	/**
+	 * Split a full chunk into pieces that are about half full, with room to grow.
+	 * That is two halves, unless the chunk is much bigger than the chunks we make
+	 * now, and then it is as many pieces as it takes. A chunk of an old size is
+	 * replaced completely, so splits move the list toward the current size.
+	 * O(chunk size + n / chunkSize)
+	 *
+	 * @param chunkNo - the full chunk.
+	 */
+	private void split(int chunkNo) {
+		FixedSizeList<T> full = chunks.getIndex(chunkNo);
+		int count = full.size();
+		int perPiece = Math.max(1, (chunkSize + 1) / 2);
+		int pieces = Math.max(2, (count + perPiece - 1) / perPiece);
+		GrowableList<FixedSizeList<T>> after = new GrowableList<>(pieces);
+		// fill the pieces from the back, so every item only moves once.
+		for (int p = pieces - 1; p >= 1; p--) {
+			FixedSizeList<T> piece = new FixedSizeList<T>(chunkSize);
+			moveBackToFront(full, piece, full.size() - p * count / pieces);
+			after.addFront(piece);
+			capacity += chunkSize;
+		}
+		int first = chunkNo + 1;
+		if (full.capacity() != chunkSize) {
+			FixedSizeList<T> piece = new FixedSizeList<T>(chunkSize);
+			moveBackToFront(full, piece, full.size());
+			after.addFront(piece);
+			chunks.removeIndex(chunkNo);
+			capacity += chunkSize - full.capacity();
+			first = chunkNo;
+		}
+		spineRoom(after.size());
+		chunks.addAll(first, after);
+		reindex();
+	}
+
+	/**
+	 * Record that a chunk gained or lost items, and fix it up if it is now too
+	 * empty.
+	 *
+	 * @param chunkNo - which chunk changed.
+	 * @param delta   - how many items it gained.
+	 */
+	private void changed(int chunkNo, int delta) {
+		size += delta;
+		resized(chunkNo, delta);
+		if (delta < 0) {
+			rebalance(chunkNo);
+		}
+	}
+
+	/**
+	 * Chunks with fewer items than this get merged with a neighbor or borrow from
+	 * it, the way B+ tree leaves do. A split leaves chunks half full, so a chunk
+	 * has to lose a lot before it counts as too empty.
+	 */
+	private int minimumFill(FixedSizeList<T> chunk) {
+		return Math.max(1, chunk.capacity() / 4);
+	}
+
+	/**
+	 * If a chunk is too empty, drop it, merge it with a neighbor, or move some of
+	 * the neighbor's items over. O(chunkSize), plus O(n / chunkSize) to re-index
+	 * when a chunk goes away from the middle of the spine.
+	 *
+	 * @param chunkNo - the chunk that just lost an item.
+	 */
+	private void rebalance(int chunkNo) {
+		FixedSizeList<T> chunk = chunks.getIndex(chunkNo);
+		if (chunk.isEmpty()) {
+			removeChunk(chunkNo);
+			return;
+		}
+		if (chunk.size() >= minimumFill(chunk) || chunks.size() == 1) {
+			return;
+		}
+		// look at the next chunk, or the one before if this is the last.
+		int leftNo = chunkNo + 1 < chunks.size() ? chunkNo : chunkNo - 1;
+		FixedSizeList<T> left = chunks.getIndex(leftNo);
+		FixedSizeList<T> right = chunks.getIndex(leftNo + 1);
+		int total = left.size() + right.size();
+		if (total <= left.capacity() && (left.size() >= right.size() || total > right.capacity())) {
+			// they fit in the left chunk, and it is the bigger one or the only one
+			// with room.
+			resized(leftNo, right.size());
+			left.addAll(left.size(), right);
+			removeChunk(leftNo + 1);
+		} else if (total <= right.capacity()) {
+			// they fit in the right chunk.
+			resized(leftNo + 1, left.size());
+			right.addAll(0, left);
+			removeChunk(leftNo);
+		} else if (left.size() < right.size()) {
+			// borrow from the right until they are about even.
+			int count = Math.min(total / 2, left.capacity()) - left.size();
+			for (int i = 0; i < count; i++) {
+				left.addBack(right.removeFront());
+			}
+			resized(leftNo, count);
+			resized(leftNo + 1, -count);
+		} else {
+			// borrow from the left until they are about even.
+			int count = Math.min(total / 2, right.capacity()) - right.size();
+			moveBackToFront(left, right, count);
+			resized(leftNo, -count);
+			resized(leftNo + 1, count);
+		}
+	}
+
+	/**
+	 * Move the last few items of one chunk to the front of another, keeping their
+	 * order. O(count)
+	 */
+	private void moveBackToFront(FixedSizeList<T> from, FixedSizeList<T> to, int count) {
+		for (int i = 0; i < count; i++) {
+			to.addFront(from.removeBack());
+		}
+	}
+
+	/**
+	 * Tell the index that a chunk grew or shrank. The last chunk is not in the
+	 * index, so this is O(1) for it and O(log(n / chunkSize)) for the others.
+	 *
+	 * @param chunkNo - which chunk changed.
+	 * @param delta   - how many items it gained.
+	 */
+	private void resized(int chunkNo, int delta) {
+		if (chunkNo < this.index.count()) {
+			this.index.add(chunkNo, delta);
+		}
+	}
+
+	/**
+	 * Index every chunk but the last one from scratch. O(n / chunkSize)
+	 */
+	private void reindex() {
+		this.index.rebuild(chunks, Math.max(0, chunks.size() - 1));
+	}
+
+	/**
+	 * Take a chunk out of the spine and re-index. O(1) for the last chunk,
+	 * O(log(n / chunkSize)) for the first, and O(n / chunkSize) anywhere else.
+	 *
+	 * @param chunkNo - which chunk to remove.
+	 */
+	private void removeChunk(int chunkNo) {
+		capacity -= chunks.removeIndex(chunkNo).capacity();
+		if (chunkNo == chunks.size()) {
+			// the chunk before it is the last one now, so it leaves the index.
+			if (!chunks.isEmpty()) {
+				this.index.removeLast();
+			}
+		} else if (chunkNo == 0) {
+			this.index.removeFirst();
+		} else {
+			reindex();
+		}
+	}
+
+	/**
+	 * Walks the items of a range of chunks. Splitting cuts the range of chunks in
+	 * half, and we know exactly how many items each half has from the index, so
+	 * this is SIZED and SUBSIZED.
+	 */
+	private class ChunkSpliterator implements Spliterator<T> {
+		/**
+		 * The chunk we are in, and the position of the next item in it.
+		 */
+		private int chunkNo;
+		private int offset;
+		/**
+		 * One past the last chunk we cover.
+		 */
+		private final int endChunk;
+		/**
+		 * How many items we have left.
+		 */
+		private long remaining;
+
+		ChunkSpliterator(int chunkNo, int endChunk, int offset, long remaining) {
+			this.chunkNo = chunkNo;
+			this.endChunk = endChunk;
+			this.offset = offset;
+			this.remaining = remaining;
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super T> action) {
+			if (remaining == 0) {
+				return false;
+			}
+			FixedSizeList<T> chunk = chunks.getIndex(chunkNo);
+			while (offset == chunk.size()) {
+				chunk = chunks.getIndex(++chunkNo);
+				offset = 0;
+			}
+			remaining--;
+			action.accept(chunk.getIndex(offset++));
+			return true;
+		}
+
+		@Override
+		public void forEachRemaining(Consumer<? super T> action) {
+			if (remaining == 0) {
+				return;
+			}
+			for (; chunkNo < endChunk; chunkNo++) {
+				chunks.getIndex(chunkNo).forEachFrom(offset, action);
+				offset = 0;
+			}
+			remaining = 0;
+		}
+
+		@Override
+		public Spliterator<T> trySplit() {
+			int middle = (chunkNo + endChunk) >>> 1;
+			if (middle <= chunkNo) {
+				// one chunk left; we only split between chunks.
+				return null;
+			}
+			// the first half goes to the new spliterator and we keep the second.
+			long firstHalf = index.prefix(middle) - index.prefix(chunkNo) - offset;
+			ChunkSpliterator prefix = new ChunkSpliterator(chunkNo, middle, offset, firstHalf);
+			chunkNo = middle;
+			offset = 0;
+			remaining -= firstHalf;
+			return prefix;
+		}
+
+		@Override
+		public long estimateSize() {
+			return remaining;
+		}
+
+		@Override
+		public int characteristics() {
+			return ORDERED | SIZED | SUBSIZED;
+		}
+	}
 }
@@ -0,0 +1,313 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.Arrays;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+/**
+ * A doubly-linked list that keeps its "nodes" in parallel arrays instead of
+ * separate objects. A node is just a slot number: its value is in
+ * {@code values[slot]} and its neighbors are {@code before[slot]} and
+ * {@code after[slot]}. That saves the object header and three references per
+ * item that {@link DoublyLinkedList} pays, and neighbors are often close in
+ * memory. Slots of removed items are kept in a free list and reused.
+ *
+ * It has the same big-O as {@link DoublyLinkedList}.
+ *
+ * @param <T> - the type of item stored in the list.
+ */
+public class CompactDoublyLinkedList<T> implements P6List<T> {
+	public static final int START_SIZE = 32;
+	/**
+	 * This is what "no slot" looks like, like null for a Node.
+	 */
+	private static final int NONE = -1;
+
+	private Object[] values;
+	private int[] before;
+	private int[] after;
+	private int start;
+	private int end;
+	private int size;
+	/**
+	 * The first free slot; the rest of the free slots are chained through
+	 * {@link #after}.
+	 */
+	private int free;
+	/**
+	 * Slots at or past this have never been used.
+	 */
+	private int used;
+	/**
+	 * The slot that a positional operation walked to last, like the finger in
+	 * {@link DoublyLinkedList}.
+	 */
+	private int finger;
+	private int fingerIndex;
+
+	/**
+	 * A compact doubly-linked list starts empty.
+	 */
+	public CompactDoublyLinkedList() {
+		this.values = new Object[START_SIZE];
+		this.before = new int[START_SIZE];
+		this.after = new int[START_SIZE];
+		this.start = NONE;
+		this.end = NONE;
+		this.size = 0;
+		this.free = NONE;
+		this.used = 0;
+		this.finger = NONE;
+	}
+
+	// O(1)
+	@Override
+	public T removeFront() {
+		checkNotEmpty();
+		return unlink(start);
+	}
+
+	// O(1)
+	@Override
+	public T removeBack() {
+		checkNotEmpty();
+		return unlink(end);
+	}
+
+	// O(n), never more than n/2 steps
+	@Override
+	public T removeIndex(int index) {
+		checkNotEmpty();
+		checkIndex(index, size - 1);
+
+		int removed = slotAt(index);
+		int next = after[removed];
+		T value = unlink(removed);
+
+		// the slot after the removed one now lives at this index
+		if (next != NONE) {
+			finger = next;
+			fingerIndex = index;
+		}
+		return value;
+	}
+
+	// O(1), unless we have to grow the arrays
+	@Override
+	public void addFront(T item) {
+		int added = allocate(item);
+		before[added] = NONE;
+		after[added] = start;
+		if (start != NONE) {
+			before[start] = added;
+		} else {
+			end = added;
+		}
+		start = added;
+		size++;
+		// every index just shifted up by one
+		finger = NONE;
+	}
+
+	// O(1), unless we have to grow the arrays
+	@Override
+	public void addBack(T item) {
+		if (end == NONE) {
+			addFront(item);
+		} else {
+			linkAfter(end, item);
+		}
+	}
+
+	// O(n), never more than n/2 steps
+	@Override
+	public void addIndex(T item, int index) {
+		checkIndex(index, size);
+
+		if (index == 0) {
+			addFront(item);
+		} else if (index == size) {
+			addBack(item);
+		} else {
+			linkAfter(slotAt(index - 1), item);
+		}
+	}
+
+	// O(1)
+	@Override
+	public T getFront() {
+		checkNotEmpty();
+		return valueAt(start);
+	}
+
+	// O(1)
+	@Override
+	public T getBack() {
+		checkNotEmpty();
+		return valueAt(end);
+	}
+
+	// O(n), never more than n/2 steps, and O(1) for neighboring indices
+	@Override
+	public T getIndex(int index) {
+		checkNotEmpty();
+		checkIndex(index, size - 1);
+		return valueAt(slotAt(index));
+	}
+
+	// O(1)
+	@Override
+	public int size() {
+		return size;
+	}
+
+	// O(1)
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Do not allow unchecked warnings in any other method. Keep the "guessing" the
+	 * objects are actually a T here.
+	 */
+	@SuppressWarnings("unchecked")
+	private T valueAt(int slot) {
+		return (T) values[slot];
+	}
+
+	private void checkNotEmpty() {
+		if (this.isEmpty()) {
+			throw new EmptyListError();
+		}
+	}
+
+	/**
+	 * Helper method to throw the right error for an index out of bounds. O(1)
+	 *
+	 * @param index - the index the user asked for.
+	 * @param max   - the largest index that makes sense for this operation.
+	 */
+	private void checkIndex(int index, int max) {
+		if (index < 0 || index > max) {
+			throw new BadIndexError();
+		}
+	}
+
+	/**
+	 * Walk to the slot at an index that has already been checked, starting from
+	 * whichever of the start, the end or the finger is closest.
+	 *
+	 * @param index - a number from 0 to size, excluding size.
+	 * @return the slot at that position.
+	 */
+	private int slotAt(int index) {
+		int current = start;
+		int at = 0;
+		int distance = index;
+		if (size - 1 - index < distance) {
+			current = end;
+			at = size - 1;
+			distance = size - 1 - index;
+		}
+		if (finger != NONE && Math.abs(index - fingerIndex) < distance) {
+			current = finger;
+			at = fingerIndex;
+		}
+		while (at > index) {
+			current = before[current];
+			at--;
+		}
+		while (at < index) {
+			current = after[current];
+			at++;
+		}
+		finger = current;
+		fingerIndex = index;
+		return current;
+	}
+
+	/**
+	 * Put a new item right after a slot that is in use. Nothing before it moves,
+	 * so the finger is still correct. O(1)
+	 *
+	 * @param previous - the slot that will come before the new one.
+	 * @param item     - the new item.
+	 */
+	private void linkAfter(int previous, T item) {
+		int added = allocate(item);
+		int next = after[previous];
+		before[added] = previous;
+		after[added] = next;
+		if (next != NONE) {
+			before[next] = added;
+		} else {
+			end = added;
+		}
+		after[previous] = added;
+		size++;
+	}
+
+	/**
+	 * Take a slot out of the list and put it on the free list. O(1)
+	 *
+	 * @param slot - a slot that is in use.
+	 * @return the value that was in it.
+	 */
+	private T unlink(int slot) {
+		T value = valueAt(slot);
+		int previous = before[slot];
+		int next = after[slot];
+		if (previous != NONE) {
+			after[previous] = next;
+		} else {
+			start = next;
+		}
+		if (next != NONE) {
+			before[next] = previous;
+		} else {
+			end = previous;
+		}
+		size--;
+		// indices after this slot just shifted down by one
+		finger = NONE;
+
+		values[slot] = null;
+		after[slot] = free;
+		free = slot;
+		return value;
+	}
+
+	/**
+	 * Find a slot for a new item, reusing a free one if we can. O(1), unless we
+	 * have to grow the arrays.
+	 *
+	 * @param item - the value to put in the slot.
+	 * @return the slot number.
+	 */
+	private int allocate(T item) {
+		int slot;
+		if (free != NONE) {
+			slot = free;
+			free = after[slot];
+		} else {
+			if (used == values.length) {
+				makeBigger();
+			}
+			slot = used++;
+		}
+		values[slot] = item;
+		return slot;
+	}
+
+	/**
+	 * Double the size of all three arrays, like GrowableList does.
+	 */
+	private void makeBigger() {
+		int length = Math.max(START_SIZE, values.length * 2);
+		values = Arrays.copyOf(values, length);
+		before = Arrays.copyOf(before, length);
+		after = Arrays.copyOf(after, length);
+	}
+}
@@ -0,0 +1,532 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Supplier;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+/**
+ * A {@link ChunkyLinkedList} that many threads can change at once. Instead of
+ * one lock around the whole list, every chunk has its own lock (lock
+ * striping), so threads working on different chunks do not wait for each
+ * other.
+ *
+ * Most operations only change one chunk, and lock only that chunk:
+ * <ul>
+ * <li>add and remove at the front or back lock only the end chunk;</li>
+ * <li>operations at an index walk the chunks hand-over-hand from the front:
+ * they lock the next chunk before letting go of the one they are in, so they
+ * cannot pass each other.</li>
+ * </ul>
+ * The rare operations that add or remove a whole chunk (filling one up,
+ * emptying one, merging two that got too empty) take a {@link StampedLock} for
+ * writing and then lock every chunk. Everyone else only takes an optimistic
+ * read of that lock: they check after locking a chunk that no structural change
+ * started in the meantime, and start over if one did. An optimistic read does
+ * not write to the lock, so threads in different chunks do not fight over it.
+ * The chunk spine is a {@link CopyOnWriteGrowableList}, so a walk can read it
+ * safely while a structural change replaces it.
+ *
+ * What you can count on: every operation happens all at once, never sees half
+ * of another one, and never loses or repeats an item. Operations at the front
+ * and at an index all start at the first chunk, so they also happen in one
+ * order that agrees with real time. Operations at the back go straight to the
+ * last chunk and skip that order, so an index operation that runs at the same
+ * time as front and back operations may see the list in a state no
+ * one-at-a-time order of them would give. Use a global lock if you need that.
+ *
+ * Finding an index walks the chunks, so it is O(n / chunkSize); a running
+ * index like ChunkyLinkedList's would have to be updated by every change.
+ *
+ * @param <T> - the type of item stored in the list.
+ */
+public class ConcurrentChunkyLinkedList<T> implements P6List<T> {
+	private final int chunkSize;
+	/**
+	 * The chunks in order. Only changed while holding the write lock and every
+	 * chunk lock, and never holds an empty chunk outside of that.
+	 */
+	private final CopyOnWriteGrowableList<Stripe<T>> chunks;
+	/**
+	 * Write-locked to add or remove chunks; read optimistically by everything
+	 * else.
+	 */
+	private final StampedLock structure;
+	private final AtomicInteger size;
+
+	/**
+	 * @param chunkSize - how many items fit in a chunk, at least 2.
+	 */
+	public ConcurrentChunkyLinkedList(int chunkSize) {
+		if (chunkSize < 2) {
+			throw new IllegalArgumentException("chunkSize must be at least 2: " + chunkSize);
+		}
+		this.chunkSize = chunkSize;
+		this.chunks = new CopyOnWriteGrowableList<>();
+		this.structure = new StampedLock();
+		this.size = new AtomicInteger(0);
+	}
+
+	// O(1), unless the first chunk runs out
+	@Override
+	public T removeFront() {
+		Stripe<T> first = lockEnd(true);
+		if (first != null) {
+			try {
+				// taking the last item would leave an empty chunk behind.
+				if (first.items.size() > 1) {
+					size.decrementAndGet();
+					return first.items.removeFront();
+				}
+			} finally {
+				first.lock.unlock();
+			}
+		}
+		return exclusive(() -> removeIndexExclusive(0));
+	}
+
+	// O(1), unless the last chunk runs out
+	@Override
+	public T removeBack() {
+		Stripe<T> last = lockEnd(false);
+		if (last != null) {
+			try {
+				if (last.items.size() > 1) {
+					size.decrementAndGet();
+					return last.items.removeBack();
+				}
+			} finally {
+				last.lock.unlock();
+			}
+		}
+		return exclusive(() -> removeIndexExclusive(size.get() - 1));
+	}
+
+	// O(n / chunkSize) to find the chunk, plus O(chunkSize) to remove from it.
+	@Override
+	public T removeIndex(int index) {
+		Found<T> found = lockChunkFor(index, false);
+		if (found == null) {
+			return exclusive(() -> removeIndexExclusive(index));
+		}
+		T removed = null;
+		boolean lastInChunk;
+		try {
+			// taking the last item would leave an empty chunk behind.
+			lastInChunk = found.stripe.items.size() == 1;
+			if (!lastInChunk) {
+				size.decrementAndGet();
+				removed = found.stripe.items.removeIndex(found.offset);
+				if (!isUnderfull(found.stripe)) {
+					return removed;
+				}
+			}
+		} finally {
+			found.stripe.lock.unlock();
+		}
+		if (lastInChunk) {
+			return exclusive(() -> removeIndexExclusive(index));
+		}
+		exclusive(() -> {
+			mergeIfUnderfull(found.stripe);
+			return null;
+		});
+		return removed;
+	}
+
+	// O(1), unless the first chunk is full
+	@Override
+	public void addFront(T item) {
+		Stripe<T> first = lockEnd(true);
+		if (first != null) {
+			try {
+				if (!isFull(first)) {
+					first.items.addFront(item);
+					size.incrementAndGet();
+					return;
+				}
+			} finally {
+				first.lock.unlock();
+			}
+		}
+		exclusive(() -> {
+			addIndexExclusive(item, 0);
+			return null;
+		});
+	}
+
+	// O(1), unless the last chunk is full
+	@Override
+	public void addBack(T item) {
+		Stripe<T> last = lockEnd(false);
+		if (last != null) {
+			try {
+				if (!isFull(last)) {
+					last.items.addBack(item);
+					size.incrementAndGet();
+					return;
+				}
+			} finally {
+				last.lock.unlock();
+			}
+		}
+		exclusive(() -> {
+			addIndexExclusive(item, size.get());
+			return null;
+		});
+	}
+
+	// O(n / chunkSize) to find the chunk, plus O(chunkSize) to add to it.
+	@Override
+	public void addIndex(T item, int index) {
+		Found<T> found = lockChunkFor(index, true);
+		if (found != null) {
+			try {
+				if (!isFull(found.stripe)) {
+					found.stripe.items.addIndex(item, found.offset);
+					size.incrementAndGet();
+					return;
+				}
+			} finally {
+				found.stripe.lock.unlock();
+			}
+		}
+		exclusive(() -> {
+			addIndexExclusive(item, index);
+			return null;
+		});
+	}
+
+	// O(1)
+	@Override
+	public T getFront() {
+		Stripe<T> first = lockEnd(true);
+		if (first == null) {
+			throw new EmptyListError();
+		}
+		try {
+			return first.items.getFront();
+		} finally {
+			first.lock.unlock();
+		}
+	}
+
+	// O(1)
+	@Override
+	public T getBack() {
+		Stripe<T> last = lockEnd(false);
+		if (last == null) {
+			throw new EmptyListError();
+		}
+		try {
+			return last.items.getBack();
+		} finally {
+			last.lock.unlock();
+		}
+	}
+
+	// O(n / chunkSize) to find the chunk.
+	@Override
+	public T getIndex(int index) {
+		Found<T> found = lockChunkFor(index, false);
+		if (found == null) {
+			throw new EmptyListError();
+		}
+		try {
+			return found.stripe.items.getIndex(found.offset);
+		} finally {
+			found.stripe.lock.unlock();
+		}
+	}
+
+	// O(1)
+	@Override
+	public int size() {
+		return size.get();
+	}
+
+	// O(1)
+	@Override
+	public boolean isEmpty() {
+		return size.get() == 0;
+	}
+
+	/**
+	 * @return how many chunks there are right now.
+	 */
+	public int chunkCount() {
+		return chunks.size();
+	}
+
+	/**
+	 * Start an optimistic read of the structure. If a structural change is
+	 * running, wait for it to finish instead of spinning.
+	 */
+	private long optimisticStamp() {
+		long stamp = structure.tryOptimisticRead();
+		while (stamp == 0) {
+			structure.unlockRead(structure.readLock());
+			stamp = structure.tryOptimisticRead();
+		}
+		return stamp;
+	}
+
+	/**
+	 * Lock the first or last chunk.
+	 *
+	 * @param front - true for the first chunk, false for the last.
+	 * @return the chunk, locked, or null if there are no chunks.
+	 */
+	private Stripe<T> lockEnd(boolean front) {
+		while (true) {
+			long stamp = optimisticStamp();
+			CopyOnWriteGrowableList.Snapshot<Stripe<T>> now = chunks.snapshot();
+			if (now.isEmpty()) {
+				if (structure.validate(stamp)) {
+					return null;
+				}
+				continue;
+			}
+			Stripe<T> stripe = front ? now.getFront() : now.getBack();
+			stripe.lock.lock();
+			if (structure.validate(stamp)) {
+				return stripe;
+			}
+			// the chunks changed before we got here; look again.
+			stripe.lock.unlock();
+		}
+	}
+
+	/**
+	 * Walk the chunks hand-over-hand to the one that holds an index, starting over
+	 * if a structural change gets in the way.
+	 *
+	 * @param index  - the index the user asked for.
+	 * @param forAdd - true if the index may be size(), for adding at the end.
+	 * @return the chunk, locked, and where the index is inside it; or null if
+	 *         there are no chunks.
+	 * @throws BadIndexError if there is no such index; then nothing is locked.
+	 */
+	private Found<T> lockChunkFor(int index, boolean forAdd) {
+		if (index < 0) {
+			throw new BadIndexError();
+		}
+		while (true) {
+			long stamp = optimisticStamp();
+			CopyOnWriteGrowableList.Snapshot<Stripe<T>> now = chunks.snapshot();
+			if (now.isEmpty()) {
+				if (structure.validate(stamp)) {
+					return null;
+				}
+				continue;
+			}
+			Found<T> found = walk(now, stamp, index, forAdd);
+			if (found != null) {
+				return found;
+			}
+		}
+	}
+
+	/**
+	 * One try of {@link #lockChunkFor}.
+	 *
+	 * @return the locked chunk, or null if the structure changed under us.
+	 */
+	private Found<T> walk(CopyOnWriteGrowableList.Snapshot<Stripe<T>> now, long stamp, int index, boolean forAdd) {
+		int last = now.size() - 1;
+		int chunkNo = 0;
+		int offset = index;
+		Stripe<T> stripe = now.getIndex(0);
+		stripe.lock.lock();
+		while (true) {
+			if (!structure.validate(stamp)) {
+				stripe.lock.unlock();
+				return null;
+			}
+			int here = stripe.items.size();
+			if (offset < here || (forAdd && offset == here && chunkNo == last)) {
+				return new Found<>(stripe, offset);
+			}
+			if (chunkNo == last) {
+				stripe.lock.unlock();
+				throw new BadIndexError();
+			}
+			// hold on to this chunk until we have the next one.
+			Stripe<T> next = now.getIndex(++chunkNo);
+			next.lock.lock();
+			stripe.lock.unlock();
+			stripe = next;
+			offset -= here;
+		}
+	}
+
+	/**
+	 * Make a structural change: take the write lock, then every chunk lock in
+	 * order, so that nobody is inside any chunk. O(n / chunkSize)
+	 *
+	 * @param change - what to do; it may use the *Exclusive methods.
+	 * @return whatever the change returns.
+	 */
+	private <R> R exclusive(Supplier<R> change) {
+		long stamp = structure.writeLock();
+		CopyOnWriteGrowableList.Snapshot<Stripe<T>> before = chunks.snapshot();
+		for (int i = 0; i < before.size(); i++) {
+			before.getIndex(i).lock.lock();
+		}
+		try {
+			return change.get();
+		} finally {
+			for (int i = before.size() - 1; i >= 0; i--) {
+				before.getIndex(i).lock.unlock();
+			}
+			structure.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Add an item inside {@link #exclusive}, making or splitting chunks as needed.
+	 */
+	private void addIndexExclusive(T item, int index) {
+		if (index < 0 || index > size.get()) {
+			throw new BadIndexError();
+		}
+		if (chunks.isEmpty()) {
+			chunks.addBack(new Stripe<T>(chunkSize));
+		}
+		int chunkNo = 0;
+		int offset = index;
+		// stop at the chunk that holds the index, or at the end of the last one.
+		while (chunkNo < chunks.size() - 1 && offset >= chunks.getIndex(chunkNo).items.size()) {
+			offset -= chunks.getIndex(chunkNo).items.size();
+			chunkNo++;
+		}
+		Stripe<T> stripe = chunks.getIndex(chunkNo);
+		if (isFull(stripe)) {
+			Stripe<T> next = new Stripe<T>(chunkSize);
+			if (offset == stripe.items.size()) {
+				// adding after a full chunk: just start the next one.
+				chunks.addIndex(next, chunkNo + 1);
+				stripe = next;
+				offset = 0;
+			} else {
+				// split it in half like ChunkyLinkedList does.
+				int keep = chunkSize / 2;
+				while (stripe.items.size() > keep) {
+					next.items.addFront(stripe.items.removeBack());
+				}
+				chunks.addIndex(next, chunkNo + 1);
+				if (offset > keep) {
+					stripe = next;
+					offset -= keep;
+				}
+			}
+		}
+		stripe.items.addIndex(item, offset);
+		size.incrementAndGet();
+	}
+
+	/**
+	 * Remove an item inside {@link #exclusive}, dropping or merging chunks as
+	 * needed.
+	 */
+	private T removeIndexExclusive(int index) {
+		if (chunks.isEmpty()) {
+			throw new EmptyListError();
+		}
+		if (index < 0 || index >= size.get()) {
+			throw new BadIndexError();
+		}
+		int chunkNo = 0;
+		int offset = index;
+		while (offset >= chunks.getIndex(chunkNo).items.size()) {
+			offset -= chunks.getIndex(chunkNo).items.size();
+			chunkNo++;
+		}
+		Stripe<T> stripe = chunks.getIndex(chunkNo);
+		T removed = stripe.items.removeIndex(offset);
+		size.decrementAndGet();
+		if (stripe.items.isEmpty()) {
+			chunks.removeIndex(chunkNo);
+		} else {
+			mergeIfUnderfull(stripe);
+		}
+		return removed;
+	}
+
+	/**
+	 * Inside {@link #exclusive}: if a chunk is less than a quarter full and fits
+	 * into a neighbor, move it there and drop it. O(n / chunkSize) to find the
+	 * chunk, plus O(chunkSize) to merge.
+	 *
+	 * @param stripe - a chunk that was too empty a moment ago.
+	 */
+	private void mergeIfUnderfull(Stripe<T> stripe) {
+		if (!isUnderfull(stripe)) {
+			// somebody added to it in the meantime.
+			return;
+		}
+		int chunkNo = -1;
+		for (int i = 0; i < chunks.size(); i++) {
+			if (chunks.getIndex(i) == stripe) {
+				chunkNo = i;
+				break;
+			}
+		}
+		if (chunkNo < 0) {
+			// somebody merged it already.
+			return;
+		}
+		if (chunkNo + 1 < chunks.size()) {
+			Stripe<T> next = chunks.getIndex(chunkNo + 1);
+			if (stripe.items.size() + next.items.size() <= chunkSize) {
+				next.items.addAll(0, stripe.items);
+				chunks.removeIndex(chunkNo);
+				return;
+			}
+		}
+		if (chunkNo > 0) {
+			Stripe<T> before = chunks.getIndex(chunkNo - 1);
+			if (stripe.items.size() + before.items.size() <= chunkSize) {
+				before.items.addAll(before.items.size(), stripe.items);
+				chunks.removeIndex(chunkNo);
+			}
+		}
+	}
+
+	private boolean isFull(Stripe<T> stripe) {
+		return stripe.items.size() == chunkSize;
+	}
+
+	private boolean isUnderfull(Stripe<T> stripe) {
+		return stripe.items.size() < chunkSize / 4;
+	}
+
+	/**
+	 * A chunk and the lock that guards it.
+	 */
+	private static final class Stripe<T> {
+		final FixedSizeList<T> items;
+		final ReentrantLock lock;
+
+		Stripe(int chunkSize) {
+			this.items = new FixedSizeList<>(chunkSize);
+			this.lock = new ReentrantLock();
+		}
+	}
+
+	/**
+	 * Where an index is: a locked chunk and a position inside it.
+	 */
+	private static final class Found<T> {
+		final Stripe<T> stripe;
+		final int offset;
+
+		Found(Stripe<T> stripe, int offset) {
+			this.stripe = stripe;
+			this.offset = offset;
+		}
+	}
+}
@@ -0,0 +1,206 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+/**
+ * A GrowableList for data that many threads read and few threads change, like
+ * a routing table. The items are kept in an array that is never changed once
+ * it is published. Readers just read the newest array, with no locks and no
+ * waiting. Writers take turns, copy the array, change the copy and then
+ * publish it in one volatile write, so a reader sees either all of a change or
+ * none of it.
+ *
+ * Every single add or remove copies the whole list, so it is O(n). To make
+ * many changes at once, use {@link #update(Consumer)}, which copies only once.
+ *
+ * @param <T> - the type of item stored in the list.
+ */
+public class CopyOnWriteGrowableList<T> implements P6List<T> {
+	/**
+	 * The newest version of the list. Never changed, only replaced.
+	 */
+	private volatile Snapshot<T> current;
+
+	public CopyOnWriteGrowableList() {
+		this.current = new Snapshot<>(new Object[0], 0);
+	}
+
+	/**
+	 * The list as it is right now. Later writes do not change it, so it is safe to
+	 * read from any thread for as long as you want. O(1)
+	 *
+	 * @return a read-only list.
+	 */
+	public Snapshot<T> snapshot() {
+		return current;
+	}
+
+	/**
+	 * Make many changes with a single copy. The session gets a private copy of the
+	 * list; when it returns, the copy is published as the new version, all at
+	 * once. If it throws, nothing is published. Readers never see a
+	 * half-finished session, and other writers wait until it is over.
+	 *
+	 * The list the session is given is emptied when it returns, so a session
+	 * that keeps it around cannot change what was published.
+	 *
+	 * @param session - the changes to make.
+	 */
+	public synchronized void update(Consumer<? super GrowableList<T>> session) {
+		Snapshot<T> before = current;
+		Object[] copy = Arrays.copyOf(before.items, before.size + GrowableList.START_SIZE);
+		GrowableList<T> working = new GrowableList<>(copy, before.size);
+		session.accept(working);
+		// publish the working array itself, without copying it again; detaching it
+		// leaves the session's list with an array of its own.
+		int size = working.size();
+		current = new Snapshot<>(working.detachArray(), size);
+	}
+
+	// O(n)
+	@Override
+	public synchronized T removeFront() {
+		return removeIndex(0);
+	}
+
+	// O(n)
+	@Override
+	public synchronized T removeBack() {
+		if (current.size == 0) {
+			throw new EmptyListError();
+		}
+		return removeIndex(current.size - 1);
+	}
+
+	// O(n)
+	@Override
+	public synchronized T removeIndex(int index) {
+		Snapshot<T> before = current;
+		if (before.size == 0) {
+			throw new EmptyListError();
+		}
+		T removed = before.getIndex(index);
+		Object[] copy = new Object[before.size - 1];
+		System.arraycopy(before.items, 0, copy, 0, index);
+		System.arraycopy(before.items, index + 1, copy, index, copy.length - index);
+		current = new Snapshot<>(copy, copy.length);
+		return removed;
+	}
+
+	// O(n)
+	@Override
+	public synchronized void addFront(T item) {
+		addIndex(item, 0);
+	}
+
+	// O(n)
+	@Override
+	public synchronized void addBack(T item) {
+		addIndex(item, current.size);
+	}
+
+	// O(n)
+	@Override
+	public synchronized void addIndex(T item, int index) {
+		Snapshot<T> before = current;
+		if (index < 0 || index > before.size) {
+			throw new BadIndexError();
+		}
+		Object[] copy = new Object[before.size + 1];
+		System.arraycopy(before.items, 0, copy, 0, index);
+		copy[index] = item;
+		System.arraycopy(before.items, index, copy, index + 1, before.size - index);
+		current = new Snapshot<>(copy, copy.length);
+	}
+
+	// O(1), and never waits for a writer.
+	@Override
+	public T getFront() {
+		return current.getFront();
+	}
+
+	// O(1), and never waits for a writer.
+	@Override
+	public T getBack() {
+		return current.getBack();
+	}
+
+	/**
+	 * O(1), and never waits for a writer. Two calls may see different versions of
+	 * the list; read from one {@link #snapshot()} to avoid that.
+	 */
+	@Override
+	public T getIndex(int index) {
+		return current.getIndex(index);
+	}
+
+	// O(1)
+	@Override
+	public int size() {
+		return current.size;
+	}
+
+	// O(1)
+	@Override
+	public boolean isEmpty() {
+		return current.size == 0;
+	}
+
+	/**
+	 * One version of a {@link CopyOnWriteGrowableList}. It never changes, which is
+	 * why it is not a P6List: it only has the methods that read.
+	 *
+	 * @param <T> - the type of item stored in the list.
+	 */
+	public static final class Snapshot<T> {
+		/**
+		 * The first size slots are the items. Nobody writes to this array.
+		 */
+		private final Object[] items;
+		private final int size;
+
+		private Snapshot(Object[] items, int size) {
+			this.items = items;
+			this.size = size;
+		}
+
+		// O(1)
+		public T getFront() {
+			if (size == 0) {
+				throw new EmptyListError();
+			}
+			return getIndex(0);
+		}
+
+		// O(1)
+		public T getBack() {
+			if (size == 0) {
+				throw new EmptyListError();
+			}
+			return getIndex(size - 1);
+		}
+
+		// O(1)
+		@SuppressWarnings("unchecked")
+		public T getIndex(int index) {
+			if (index < 0 || index >= size) {
+				throw new BadIndexError();
+			}
+			return (T) items[index];
+		}
+
+		// O(1)
+		public int size() {
+			return size;
+		}
+
+		// O(1)
+		public boolean isEmpty() {
+			return size == 0;
+		}
+	}
+}
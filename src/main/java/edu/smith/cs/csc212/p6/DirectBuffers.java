@@ -0,0 +1,50 @@
+package edu.smith.cs.csc212.p6;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+
+/**
+ * Releases the memory behind direct and mapped ByteBuffers right away instead
+ * of waiting for the garbage collector. Java has no public API for this, so we
+ * try the Java 9+ way (Unsafe.invokeCleaner) and then the Java 8 way
+ * (DirectBuffer.cleaner().clean()). If neither works, we leave the buffer to
+ * the garbage collector, which is always safe.
+ */
+final class DirectBuffers {
+	private DirectBuffers() {
+		// only static methods here.
+	}
+
+	/**
+	 * Free a direct buffer. The buffer and every view of it must never be used
+	 * again.
+	 * 
+	 * @param buffer - a buffer from allocateDirect or FileChannel.map.
+	 */
+	static void free(ByteBuffer buffer) {
+		if (buffer == null || !buffer.isDirect()) {
+			return;
+		}
+		try {
+			Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+			Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+			Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+			theUnsafe.setAccessible(true);
+			invokeCleaner.invoke(theUnsafe.get(null), buffer);
+			return;
+		} catch (ReflectiveOperationException | RuntimeException java8) {
+			// fall through to the Java 8 way.
+		}
+		try {
+			Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+			cleanerMethod.setAccessible(true);
+			Object cleaner = cleanerMethod.invoke(buffer);
+			if (cleaner != null) {
+				cleaner.getClass().getMethod("clean").invoke(cleaner);
+			}
+		} catch (ReflectiveOperationException | RuntimeException ignored) {
+			// the garbage collector will get it eventually.
+		}
+	}
+}
@@ -0,0 +1,212 @@
+package edu.smith.cs.csc212.p6;
+
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+import edu.smith.cs.csc212.p6.errors.RanOutOfSpaceError;
+
+/**
+ * A {@link FixedSizeList} of {@code double} values that stores them unboxed in
+ * a {@code double[]}. It is a {@code P6List<Double>}, but the
+ * {@code ...Double} methods never box, so numeric code should prefer them.
+ *
+ * GENERATED from src/main/templates/PrimitiveFixedSizeList.java.tmpl by
+ * GeneratePrimitiveLists; edit the template, not this file.
+ */
+public class DoubleFixedSizeList implements P6List<Double> {
+	private double[] array;
+	private int fill;
+
+	/**
+	 * @param maximumSize - how many values it can ever hold.
+	 */
+	public DoubleFixedSizeList(int maximumSize) {
+		this.array = new double[maximumSize];
+		this.fill = 0;
+	}
+
+	// O(n)
+	public double removeDoubleFront() {
+		return removeDoubleIndex(0);
+	}
+
+	// O(1)
+	public double removeDoubleBack() {
+		checkNotEmpty();
+		return array[--fill];
+	}
+
+	// O(n), one block move
+	public double removeDoubleIndex(int index) {
+		checkNotEmpty();
+		double removed = getDouble(index);
+		fill--;
+		System.arraycopy(array, index + 1, array, index, fill - index);
+		return removed;
+	}
+
+	// O(n), one block move
+	public void addDoubleFront(double value) {
+		addDoubleIndex(value, 0);
+	}
+
+	// O(1)
+	public void addDouble(double value) {
+		checkNotFull(1);
+		array[fill++] = value;
+	}
+
+	// O(n), one block move
+	public void addDoubleIndex(double value, int index) {
+		checkNotFull(1);
+		if (index < 0 || index > fill) {
+			throw new BadIndexError();
+		}
+		System.arraycopy(array, index, array, index + 1, fill - index);
+		array[index] = value;
+		fill++;
+	}
+
+	/**
+	 * Add many values to the back at once. O(k)
+	 *
+	 * @param values - where to take them from.
+	 * @param from   - the first index of values to add.
+	 * @param to     - one past the last index of values to add.
+	 * @throws RanOutOfSpaceError if they don't all fit; then nothing is added.
+	 */
+	public void addAllDoubles(double[] values, int from, int to) {
+		if (from < 0 || from > to || to > values.length) {
+			throw new BadIndexError();
+		}
+		int count = to - from;
+		checkNotFull(count);
+		System.arraycopy(values, from, array, fill, count);
+		fill += count;
+	}
+
+	// O(1)
+	public double getDouble(int index) {
+		if (index < 0 || index >= fill) {
+			throw new BadIndexError();
+		}
+		return array[index];
+	}
+
+	// O(1)
+	public double getDoubleFront() {
+		checkNotEmpty();
+		return array[0];
+	}
+
+	// O(1)
+	public double getDoubleBack() {
+		checkNotEmpty();
+		return array[fill - 1];
+	}
+
+	// O(1)
+	public void setDouble(int index, double value) {
+		if (index < 0 || index >= fill) {
+			throw new BadIndexError();
+		}
+		array[index] = value;
+	}
+
+	/**
+	 * Copy the values out into a new array of exactly size() values. O(n)
+	 *
+	 * @return the copy.
+	 */
+	public double[] toDoubleArray() {
+		return Arrays.copyOf(array, fill);
+	}
+
+	/**
+	 * A read-only view of the values, without copying them. The view does not
+	 * follow later changes to size(). O(1)
+	 *
+	 * @return a buffer whose position is 0 and whose limit is size().
+	 */
+	public DoubleBuffer asDoubleBuffer() {
+		return DoubleBuffer.wrap(array, 0, fill).slice().asReadOnlyBuffer();
+	}
+
+	/**
+	 * @return how many values this list can ever hold.
+	 */
+	public int capacity() {
+		return array.length;
+	}
+
+	@Override
+	public Double removeFront() {
+		return removeDoubleFront();
+	}
+
+	@Override
+	public Double removeBack() {
+		return removeDoubleBack();
+	}
+
+	@Override
+	public Double removeIndex(int index) {
+		return removeDoubleIndex(index);
+	}
+
+	@Override
+	public void addFront(Double item) {
+		addDoubleFront(item);
+	}
+
+	@Override
+	public void addBack(Double item) {
+		addDouble(item);
+	}
+
+	@Override
+	public void addIndex(Double item, int index) {
+		addDoubleIndex(item, index);
+	}
+
+	@Override
+	public Double getFront() {
+		return getDoubleFront();
+	}
+
+	@Override
+	public Double getBack() {
+		return getDoubleBack();
+	}
+
+	@Override
+	public Double getIndex(int index) {
+		return getDouble(index);
+	}
+
+	// O(1)
+	@Override
+	public int size() {
+		return fill;
+	}
+
+	// O(1)
+	@Override
+	public boolean isEmpty() {
+		return fill == 0;
+	}
+
+	private void checkNotEmpty() {
+		if (fill == 0) {
+			throw new EmptyListError();
+		}
+	}
+
+	private void checkNotFull(int adding) {
+		if (fill + adding > array.length) {
+			throw new RanOutOfSpaceError();
+		}
+	}
+}
@@ -0,0 +1,219 @@
+package edu.smith.cs.csc212.p6;
+
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+/**
+ * A {@link GrowableList} of {@code double} values that stores them unboxed in a
+ * {@code double[]}. It is a {@code P6List<Double>}, but the {@code ...Double}
+ * methods never box, so numeric code should prefer them.
+ *
+ * GENERATED from src/main/templates/PrimitiveGrowableList.java.tmpl by
+ * GeneratePrimitiveLists; edit the template, not this file.
+ */
+public class DoubleGrowableList implements P6List<Double> {
+	public static final int START_SIZE = 32;
+	private double[] array;
+	private int fill;
+
+	public DoubleGrowableList() {
+		this(START_SIZE);
+	}
+
+	/**
+	 * @param initialCapacity - how many values fit before we have to grow.
+	 */
+	public DoubleGrowableList(int initialCapacity) {
+		this.array = new double[Math.max(1, initialCapacity)];
+		this.fill = 0;
+	}
+
+	// O(n)
+	public double removeDoubleFront() {
+		return removeDoubleIndex(0);
+	}
+
+	// O(1)
+	public double removeDoubleBack() {
+		checkNotEmpty();
+		return array[--fill];
+	}
+
+	// O(n), one block move
+	public double removeDoubleIndex(int index) {
+		checkNotEmpty();
+		double removed = getDouble(index);
+		fill--;
+		System.arraycopy(array, index + 1, array, index, fill - index);
+		return removed;
+	}
+
+	// O(n), one block move
+	public void addDoubleFront(double value) {
+		addDoubleIndex(value, 0);
+	}
+
+	// O(1) amortized
+	public void addDouble(double value) {
+		if (fill >= array.length) {
+			makeBigger(fill + 1);
+		}
+		array[fill++] = value;
+	}
+
+	// O(n), one block move
+	public void addDoubleIndex(double value, int index) {
+		if (index < 0 || index > fill) {
+			throw new BadIndexError();
+		}
+		if (fill >= array.length) {
+			makeBigger(fill + 1);
+		}
+		System.arraycopy(array, index, array, index + 1, fill - index);
+		array[index] = value;
+		fill++;
+	}
+
+	/**
+	 * Add many values to the back at once. O(k) amortized
+	 *
+	 * @param values - where to take them from.
+	 * @param from   - the first index of values to add.
+	 * @param to     - one past the last index of values to add.
+	 */
+	public void addAllDoubles(double[] values, int from, int to) {
+		if (from < 0 || from > to || to > values.length) {
+			throw new BadIndexError();
+		}
+		int count = to - from;
+		if (fill + count > array.length) {
+			makeBigger(fill + count);
+		}
+		System.arraycopy(values, from, array, fill, count);
+		fill += count;
+	}
+
+	// O(1)
+	public double getDouble(int index) {
+		if (index < 0 || index >= fill) {
+			throw new BadIndexError();
+		}
+		return array[index];
+	}
+
+	// O(1)
+	public double getDoubleFront() {
+		checkNotEmpty();
+		return array[0];
+	}
+
+	// O(1)
+	public double getDoubleBack() {
+		checkNotEmpty();
+		return array[fill - 1];
+	}
+
+	// O(1)
+	public void setDouble(int index, double value) {
+		if (index < 0 || index >= fill) {
+			throw new BadIndexError();
+		}
+		array[index] = value;
+	}
+
+	/**
+	 * Copy the values out into a new array of exactly size() values. O(n)
+	 *
+	 * @return the copy.
+	 */
+	public double[] toDoubleArray() {
+		return Arrays.copyOf(array, fill);
+	}
+
+	/**
+	 * A read-only view of the values, without copying them. The view stops
+	 * following this list once it grows or shrinks. O(1)
+	 *
+	 * @return a buffer whose position is 0 and whose limit is size().
+	 */
+	public DoubleBuffer asDoubleBuffer() {
+		return DoubleBuffer.wrap(array, 0, fill).slice().asReadOnlyBuffer();
+	}
+
+	@Override
+	public Double removeFront() {
+		return removeDoubleFront();
+	}
+
+	@Override
+	public Double removeBack() {
+		return removeDoubleBack();
+	}
+
+	@Override
+	public Double removeIndex(int index) {
+		return removeDoubleIndex(index);
+	}
+
+	@Override
+	public void addFront(Double item) {
+		addDoubleFront(item);
+	}
+
+	@Override
+	public void addBack(Double item) {
+		addDouble(item);
+	}
+
+	@Override
+	public void addIndex(Double item, int index) {
+		addDoubleIndex(item, index);
+	}
+
+	@Override
+	public Double getFront() {
+		return getDoubleFront();
+	}
+
+	@Override
+	public Double getBack() {
+		return getDoubleBack();
+	}
+
+	@Override
+	public Double getIndex(int index) {
+		return getDouble(index);
+	}
+
+	// O(1)
+	@Override
+	public int size() {
+		return fill;
+	}
+
+	// O(1)
+	@Override
+	public boolean isEmpty() {
+		return fill == 0;
+	}
+
+	private void checkNotEmpty() {
+		if (fill == 0) {
+			throw new EmptyListError();
+		}
+	}
+
+	/**
+	 * Keep doubling the size until at least {@code needed} values fit, the same
+	 * way a {@link GrowableList} does, so the length never goes past the largest
+	 * array we can make.
+	 *
+	 * @param needed - how many values must fit.
+	 */
+	private void makeBigger(int needed) {
+		array = Arrays.copyOf(array, GrowthPolicy.DOUBLING.grow(array.length, needed));
+	}
+}
@@ -1,11 +1,29 @@
 package edu.smith.cs.csc212.p6;
 
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+
 import edu.smith.cs.csc212.p6.errors.BadIndexError;
 import edu.smith.cs.csc212.p6.errors.EmptyListError;
+import edu.smith.cs.csc212.p6.errors.StaleHandleError;
 
-public class DoublyLinkedList<T> implements P6List<T> {
+public class DoublyLinkedList<T> implements P6List<T>, Iterable<T> {
 	private Node<T> start;
 	private Node<T> end;
+	/**
+	 * How many items are in this list? Kept up to date by every add and remove.
+	 */
+	private int size;
+	/**
+	 * The last node that a positional operation walked to. Nearby calls to
+	 * getIndex, addIndex and removeIndex start from here instead of the start.
+	 */
+	private Node<T> finger;
+	/**
+	 * The index of {@link #finger}, only meaningful while finger is not null.
+	 */
+	private int fingerIndex;
 
 	/**
 	 * A doubly-linked list starts empty.
@@ -13,40 +31,21 @@ public class DoublyLinkedList<T> implements P6List<T> {
 	public DoublyLinkedList() {
 		this.start = null;
 		this.end = null;
+		this.size = 0;
+		this.finger = null;
 	}
 
+	/*
+	 * O(1), we're just unlinking the start
+	 */
 	@Override
 	public T removeFront() {
 		// check if the list is empty
 		checkNotEmpty();
-		
-		// if there's only one item in the list
-		if(this.size()==1) {
-			// save the that item
-			T removed = start.value;
-			
-			// set both start and end to null 
-			start = null;
-			end = null;
-			
-			// return the removed item
-			return removed;
-		} else {
-			// if it has more than one item
-			
-			// then we we will save the first item.
-			T removed = start.value;
-			
-			// make sure that the item after is the new start
-			start = start.after;
-			
-			// and if it's null, to make sure the item
-			// before it is null
-			if (start != null) {
-				start.before = null;
-			} 
-			return removed;
-		}
+
+		T removed = start.value;
+		unlink(start);
+		return removed;
 	}
 
 	/*
@@ -57,85 +56,39 @@ public class DoublyLinkedList<T> implements P6List<T> {
 		// see if the list is empty
 		checkNotEmpty();
 
-		// if there is one item in the list
-		// just remove the first item
-		if (this.size() == 1) {
-			T removed = start.value;
-			start = null;
-			return removed;
-		} else {
-			// otherwise remove the end
-			T removed = end.value;
-			end = end.before;
-
-			// make sure the end is not null
-			if (end != null) {
-				end.after = null;
-			}
-			return removed;
-		}
+		T removed = end.value;
+		unlink(end);
+		return removed;
 	}
 
 	/*
-	 * This will take O(n) time because we need to access every time in the list
-	 * with the for loop. If we think about the number of items in the list as n,
-	 * and if this is the worst case scenario (that the index we want to remove is
-	 * at the end), we will have O(n).
+	 * O(n) to walk to the index, but we start from whichever of the start, the end
+	 * or the finger is closest, so we never walk more than n/2 nodes.
 	 */
 	@Override
 	public T removeIndex(int index) {
 		// check if list is empty
 		checkNotEmpty();
+		checkIndex(index, size - 1);
 
-		// if removing the first item
-		if (index == 0) {
-			return this.removeFront();
-		}
-
-		// if removing last item
-		if (index == this.size()) {
-			return this.removeBack();
-		}
-
-		// have a counter that starts at 0
-		int at = 0;
+		Node<T> removed = nodeAt(index);
+		Node<T> next = removed.after;
+		unlink(removed);
 
-		// go through all items in the list until you find
-		// the desired index
-		for (Node<T> current = start; current != null; current = current.after) {
-			if (at == (index - 1)) {
-				T removed = current.after.value;
-				current.after = current.after.after;
-				return removed;
-			}
-			at++;
+		// the node after the removed one now lives at this index
+		if (next != null) {
+			finger = next;
+			fingerIndex = index;
 		}
-
-		// if you get here that means the index does not exist
-		// so throw this error
-		throw new BadIndexError();
+		return removed.value;
 	}
 
 	/*
 	 * O(1), we're just adding to the front
-	 * 
-	 * This method saves the start value, sets 
-	 * the item after it to a new node with the item
-	 * we would like to add and the item before it
-	 * to be null (since it's at the beginning of the 
-	 * list). 
 	 */
 	@Override
 	public void addFront(T item) {
-		Node<T> second = start;
-		this.start = new Node<T>(item);
-		start.after = second;
-		start.before = null;
-		if (second != null) {
-			second.before = start;
-		} else {
-			end = start;
-		}
+		linkFirst(new Node<T>(item));
 	}
 
 	/*
@@ -143,77 +96,94 @@ public class DoublyLinkedList<T> implements P6List<T> {
 	 */
 	@Override
 	public void addBack(T item) {
-		// make a new node
-		Node<T> newNode = new Node<T>(item);
+		addBackHandle(item);
+	}
+
+	/**
+	 * Add an item to the front of this list and keep a handle to it, so that it
+	 * can be removed or moved later without searching. O(1)
+	 * 
+	 * @param item the data to add to the list.
+	 * @return a handle to the new item.
+	 */
+	public Handle<T> addFrontHandle(T item) {
+		Node<T> added = new Node<T>(item);
+		linkFirst(added);
+		return added;
+	}
 
+	/**
+	 * Add an item to the back of this list and keep a handle to it, so that it can
+	 * be removed or moved later without searching. O(1)
+	 * 
+	 * @param item the data to add to the list.
+	 * @return a handle to the new item.
+	 */
+	public Handle<T> addBackHandle(T item) {
+		Node<T> added = new Node<T>(item);
 		// if list is empty
 		if (this.end == null) {
-			// just add item to front
-			addFront(item);
+			linkFirst(added);
 		} else {
-			// otherwise, make sure the end and
-			// the new node are pointing to the right things
-
-			// new node should be at the end so it
-			// would be pointing to null right after it
-			// and pointing back to the now previous end
-			newNode.after = null;
-			newNode.before = this.end;
+			linkAfter(this.end, added);
+		}
+		return added;
+	}
 
-			// and our end would be pointing at the new node
-			this.end.after = newNode;
+	/**
+	 * Delete the item that a handle points to. O(1)
+	 * 
+	 * @param handle - from addFrontHandle or addBackHandle on this list.
+	 * @return the value of the item that was deleted.
+	 * @throws StaleHandleError if the item is no longer in this list.
+	 */
+	public T remove(Handle<T> handle) {
+		Node<T> node = checkHandle(handle);
+		unlink(node);
+		return node.value;
+	}
 
-			// now the new node is the end
-			this.end = newNode;
+	/**
+	 * Move the item that a handle points to to the front of this list. The handle
+	 * stays valid. O(1)
+	 * 
+	 * @param handle - from addFrontHandle or addBackHandle on this list.
+	 * @throws StaleHandleError if the item is no longer in this list.
+	 */
+	public void moveToFront(Handle<T> handle) {
+		Node<T> node = checkHandle(handle);
+		if (node != start) {
+			unlink(node);
+			linkFirst(node);
 		}
 	}
 
+	/**
+	 * Is the item that a handle points to still in this list? O(1)
+	 * 
+	 * @param handle - any handle, or null.
+	 * @return true if remove(handle) would work.
+	 */
+	public boolean contains(Handle<T> handle) {
+		return handle instanceof Node && ((Node<T>) handle).owner == this;
+	}
+
 	/*
-	 * O(n), we're going through all items in the list in worst case scenario
+	 * O(n) to walk to the node before the index, starting from whichever of the
+	 * start, the end or the finger is closest. Adding at either end is O(1).
 	 */
 	@Override
 	public void addIndex(T item, int index) {
-		// if the list is empty
-		if (this.isEmpty() || (index == 0)) {
-			addFront(item);
-		}
-
 		// if index is out of bound
-		if (index < 0 || index > this.size()) {
-			throw new BadIndexError();
-		}
+		checkIndex(index, size);
 
-		// if adding to the back
-		if (index == this.size()) {
+		// if the list is empty or adding to the front
+		if (index == 0) {
+			addFront(item);
+		} else if (index == size) {
 			addBack(item);
-		}
-
-		// if adding somewhere in the middle
-		else {
-			// have a counter
-			int at = 0;
-
-			// go through nodes
-			for (Node<T> current = start; current != null; current = current.after) {
-				if (at == (index - 1)) {
-					// make a new node
-					Node<T> c = new Node<>(item);
-
-					// make sure we have the right pointers
-					c.after = current.after;
-
-					// c points at null and the current
-					c.before = current;
-
-					// current should be pointing at c
-					current.after.before = c;
-
-					// c should be current now
-					current.after = c;
-
-				}
-				at++;
-			}
+		} else {
+			linkAfter(nodeAt(index - 1), new Node<T>(item));
 		}
 	}
 
@@ -238,34 +208,22 @@ public class DoublyLinkedList<T> implements P6List<T> {
 	}
 
 	/*
-	 * Going through all items, O(n)
+	 * O(n) in general but never more than n/2 steps, O(1) near either end, and
+	 * amortized O(1) for a loop over neighboring indices because of the finger.
 	 */
 	@Override
 	public T getIndex(int index) {
 		checkNotEmpty();
-
-		int at = 0;
-
-		for (Node<T> current = start; current != null; current = current.after) {
-			if (at == (index)) {
-				T found = current.value;
-				return found;
-			}
-			at++;
-		}
-		throw new BadIndexError();
+		checkIndex(index, size - 1);
+		return nodeAt(index).value;
 	}
 
 	/*
-	 * Here, we're going to go through all items O(n)
+	 * O(1) --> we keep count as we go
 	 */
 	@Override
 	public int size() {
-		int index = 0;
-		for (Node<T> current = start; current != null; current = current.after) {
-			index++;
-		}
-		return index;
+		return size;
 	}
 
 	/*
@@ -273,7 +231,7 @@ public class DoublyLinkedList<T> implements P6List<T> {
 	 */
 	@Override
 	public boolean isEmpty() {
-		// return if start is null 
+		// return if start is null
 		// list is empty if true
 		return start == null;
 	}
@@ -288,12 +246,311 @@ public class DoublyLinkedList<T> implements P6List<T> {
 	}
 
 	/**
-	 * The node on any linked list should not be exposed. Static means we don't need
-	 * a "this" of DoublyLinkedList to make a node.
+	 * Helper method to throw the right error for an index out of bounds. O(1)
+	 *
+	 * @param index - the index the user asked for.
+	 * @param max   - the largest index that makes sense for this operation.
+	 */
+	private void checkIndex(int index, int max) {
+		if (index < 0 || index > max) {
+			throw new BadIndexError();
+		}
+	}
+
+	/**
+	 * Walk to the node at an index that has already been checked. We start from
+	 * whichever of the start, the end or the finger is closest, and walk backwards
+	 * if we have to. The finger is then moved to the node we found.
+	 *
+	 * @param index - a number from 0 to size, excluding size.
+	 * @return the node at that position.
+	 */
+	private Node<T> nodeAt(int index) {
+		Node<T> current = start;
+		int at = 0;
+		int distance = index;
+		if (size - 1 - index < distance) {
+			current = end;
+			at = size - 1;
+			distance = size - 1 - index;
+		}
+		if (finger != null && Math.abs(index - fingerIndex) < distance) {
+			current = finger;
+			at = fingerIndex;
+		}
+		while (at > index) {
+			current = current.before;
+			at--;
+		}
+		while (at < index) {
+			current = current.after;
+			at++;
+		}
+		finger = current;
+		fingerIndex = index;
+		return current;
+	}
+
+	/**
+	 * Turn a handle back into one of our nodes, or complain that it isn't one.
+	 * O(1)
 	 * 
+	 * @param handle - a handle the user gave us.
+	 * @return the node it points to.
+	 */
+	private Node<T> checkHandle(Handle<T> handle) {
+		if (!contains(handle)) {
+			throw new StaleHandleError();
+		}
+		return (Node<T>) handle;
+	}
+
+	/**
+	 * Put a new node at the start of this list. Every index moves up by one, so
+	 * the finger is forgotten. O(1)
+	 * 
+	 * @param added - the new node.
+	 */
+	private void linkFirst(Node<T> added) {
+		added.owner = this;
+		added.before = null;
+		added.after = start;
+		if (start != null) {
+			start.before = added;
+		} else {
+			end = added;
+		}
+		start = added;
+		size++;
+		// every index just shifted up by one
+		forgetFinger();
+	}
+
+	/**
+	 * Put a new node right after one that is already in this list. Nothing before
+	 * the new node moves, so the finger is still correct. O(1)
+	 *
+	 * @param previous - the node that will come before the new one.
+	 * @param added    - the new node.
+	 */
+	private void linkAfter(Node<T> previous, Node<T> added) {
+		added.owner = this;
+		added.before = previous;
+		added.after = previous.after;
+		if (previous.after != null) {
+			previous.after.before = added;
+		} else {
+			end = added;
+		}
+		previous.after = added;
+		size++;
+	}
+
+	/**
+	 * Take a node out of this list, fixing start and end if needed. O(1)
+	 *
+	 * @param node - a node that is currently in this list.
+	 */
+	private void unlink(Node<T> node) {
+		if (node.before != null) {
+			node.before.after = node.after;
+		} else {
+			start = node.after;
+		}
+		if (node.after != null) {
+			node.after.before = node.before;
+		} else {
+			end = node.before;
+		}
+		node.before = null;
+		node.after = null;
+		// any handle to this node is now stale
+		node.owner = null;
+		size--;
+		// indices after this node just shifted down by one
+		forgetFinger();
+	}
+
+	/**
+	 * Drop the cached position because the indices of the list have moved. O(1)
+	 */
+	private void forgetFinger() {
+		finger = null;
+	}
+
+	/**
+	 * A cursor that sits between two nodes of this list. Adding or removing at the
+	 * cursor only relinks the neighbors, so an edit pass over the whole list is
+	 * O(n) instead of one O(n) walk per edit. Don't change the list except through
+	 * this cursor while you are using it.
+	 */
+	private class Cursor implements ListIterator<T> {
+		/**
+		 * The node that next() would return, or null if we are at the end.
+		 */
+		Node<T> next;
+		/**
+		 * The index of {@link #next}.
+		 */
+		int nextIndex;
+		/**
+		 * The node that remove() and set() work on, or null if there isn't one.
+		 */
+		Node<T> lastReturned;
+
+		/**
+		 * Start the cursor right before an index that has already been checked.
+		 * 
+		 * @param index - a number from 0 to size, including size.
+		 */
+		Cursor(int index) {
+			this.next = (index == size) ? null : nodeAt(index);
+			this.nextIndex = index;
+			this.lastReturned = null;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return nextIndex < size;
+		}
+
+		@Override
+		public T next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			lastReturned = next;
+			next = next.after;
+			nextIndex++;
+			return lastReturned.value;
+		}
+
+		@Override
+		public boolean hasPrevious() {
+			return nextIndex > 0;
+		}
+
+		@Override
+		public T previous() {
+			if (!hasPrevious()) {
+				throw new NoSuchElementException();
+			}
+			next = (next == null) ? end : next.before;
+			lastReturned = next;
+			nextIndex--;
+			return lastReturned.value;
+		}
+
+		@Override
+		public int nextIndex() {
+			return nextIndex;
+		}
+
+		@Override
+		public int previousIndex() {
+			return nextIndex - 1;
+		}
+
+		// O(1)
+		@Override
+		public void remove() {
+			if (lastReturned == null) {
+				throw new IllegalStateException();
+			}
+			if (next == lastReturned) {
+				// we just came here with previous()
+				next = lastReturned.after;
+			} else {
+				// we just came here with next()
+				nextIndex--;
+			}
+			unlink(lastReturned);
+			lastReturned = null;
+		}
+
+		// O(1)
+		@Override
+		public void set(T item) {
+			if (lastReturned == null) {
+				throw new IllegalStateException();
+			}
+			lastReturned.value = item;
+		}
+
+		// O(1)
+		@Override
+		public void add(T item) {
+			if (next == null) {
+				addBack(item);
+			} else if (next.before == null) {
+				addFront(item);
+			} else {
+				linkAfter(next.before, new Node<T>(item));
+				// the finger might be after the new node
+				forgetFinger();
+			}
+			nextIndex++;
+			lastReturned = null;
+		}
+	}
+
+	/**
+	 * Implement iterator() so that {@code DoublyLinkedList} can be used in a for
+	 * loop.
+	 * 
+	 * @return a cursor that starts before the first item.
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return listIterator();
+	}
+
+	/**
+	 * Get a cursor that can walk in both directions and add, remove or replace
+	 * items where it is in O(1) time.
+	 * 
+	 * @return a cursor that starts before the first item.
+	 */
+	public ListIterator<T> listIterator() {
+		return new Cursor(0);
+	}
+
+	/**
+	 * Get a cursor that can walk in both directions and add, remove or replace
+	 * items where it is in O(1) time. Finding the start is like getIndex.
+	 * 
+	 * @param index - a number from 0 to size, including size.
+	 * @return a cursor whose next() is the item at index.
+	 * @throws BadIndexError if the index does not exist.
+	 */
+	public ListIterator<T> listIterator(int index) {
+		checkIndex(index, size);
+		return new Cursor(index);
+	}
+
+	/**
+	 * A handle lets you find an item in the list again without searching for it.
+	 * It does not let you walk the list.
+	 * 
+	 * @param <T> the type of the values stored.
+	 */
+	public interface Handle<T> {
+		/**
+		 * What value is stored at this handle?
+		 * 
+		 * @return the value, even if it has been removed from the list.
+		 */
+		public T getValue();
+	}
+
+	/**
+	 * The node on any linked list should not be exposed, so users only ever see it
+	 * as a {@link Handle}. Static means we don't need a "this" of DoublyLinkedList
+	 * to make a node.
+	 *
 	 * @param <T> the type of the values stored.
 	 */
-	private static class Node<T> {
+	private static class Node<T> implements Handle<T> {
 		/**
 		 * What node comes before me?
 		 */
@@ -306,16 +563,26 @@ public class DoublyLinkedList<T> implements P6List<T> {
 		 * What value is stored in this node?
 		 */
 		public T value;
+		/**
+		 * Which list am I in? This is null once I have been removed.
+		 */
+		public DoublyLinkedList<T> owner;
 
 		/**
 		 * Create a node with no friends.
-		 * 
+		 *
 		 * @param value - the value to put in it.
 		 */
 		public Node(T value) {
 			this.value = value;
 			this.before = null;
 			this.after = null;
+			this.owner = null;
+		}
+
+		@Override
+		public T getValue() {
+			return value;
 		}
 	}
 }
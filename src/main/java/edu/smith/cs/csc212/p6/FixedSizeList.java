@@ -1,23 +1,47 @@
 package edu.smith.cs.csc212.p6;
 
+import java.util.Arrays;
+import java.util.function.Consumer;
+
 import edu.smith.cs.csc212.p6.errors.BadIndexError;
 import edu.smith.cs.csc212.p6.errors.EmptyListError;
 import edu.smith.cs.csc212.p6.errors.RanOutOfSpaceError;
 
+/**
+ * A list that never grows past the size it was made with. The items are kept
+ * in a circular buffer: index 0 lives at {@code array[head]} and the rest
+ * follow it, wrapping around to the start of the array. That way adding or
+ * removing at either end is O(1), and changes in the middle only shift the
+ * items between the index and the closer end.
+ */
 public class FixedSizeList<T> implements P6List<T> {
 	private Object[] array;
 	private int fill;
+	/**
+	 * Where in the array does index 0 live?
+	 */
+	private int head;
 
 	public FixedSizeList(int maximumSize) {
 		this.array = new Object[maximumSize];
 		this.fill = 0;
+		this.head = 0;
 	}
 
+	// O(1)
 	@Override
 	public T removeFront() {
-		return removeIndex(0);
+		if (this.size() == 0) {
+			throw new EmptyListError();
+		}
+		T value = this.getIndex(0);
+		this.array[head] = null;
+		head = slot(1);
+		fill--;
+		return value;
 	}
 
+	// O(1)
 	@Override
 	public T removeBack() {
 		if (this.size() == 0) {
@@ -25,51 +49,157 @@ public class FixedSizeList<T> implements P6List<T> {
 		}
 		T value = this.getIndex(fill - 1);
 		fill--;
-		this.array[fill] = null;
+		this.array[slot(fill)] = null;
 		return value;
 	}
 
+	// O(n), but we only shift the items between the index and the closer end.
 	@Override
 	public T removeIndex(int index) {
 		if (this.size() == 0) {
 			throw new EmptyListError();
 		}
 		T removed = this.getIndex(index);
-		fill--;
-		for (int i = index; i < fill; i++) {
-			this.array[i] = this.array[i + 1];
+		if (index < fill / 2) {
+			// shift the front items to the right.
+			moveRange(0, 1, index);
+			this.array[head] = null;
+			head = slot(1);
+		} else {
+			// shift the back items to the left.
+			moveRange(index + 1, index, fill - 1 - index);
+			this.array[slot(fill - 1)] = null;
 		}
-		this.array[fill] = null;
+		fill--;
 		return removed;
 	}
 
+	/**
+	 * Delete the items from {@code from} up to but not including {@code to}. The
+	 * items on the shorter side of the range are moved once, by the whole count.
+	 * O(n)
+	 * 
+	 * @param from - the first index to delete.
+	 * @param to   - one past the last index to delete.
+	 * @throws BadIndexError if the range is not inside the list.
+	 */
+	public void removeRange(int from, int to) {
+		if (from < 0 || from > to || to > fill) {
+			throw new BadIndexError();
+		}
+		int count = to - from;
+		if (from < fill - to) {
+			// shift the front items to the right.
+			moveRange(0, count, from);
+			clearRange(0, count);
+			head = slot(count);
+		} else {
+			// shift the back items to the left.
+			moveRange(to, from, fill - to);
+			clearRange(fill - count, count);
+		}
+		fill -= count;
+	}
+
+	// O(1)
 	@Override
 	public void addFront(T item) {
-		addIndex(item, 0);
+		if (fill >= array.length) {
+			throw new RanOutOfSpaceError();
+		}
+		head = slot(array.length - 1);
+		array[head] = item;
+		fill++;
 	}
 
+	// O(1)
 	@Override
 	public void addBack(T item) {
 		if (fill < array.length) {
-			array[fill++] = item;
+			array[slot(fill++)] = item;
 		} else {
 			throw new RanOutOfSpaceError();
 		}
 	}
 
+	// O(n), but we only shift the items between the index and the closer end.
 	@Override
 	public void addIndex(T item, int index) {
 		if (fill >= array.length) {
 			throw new RanOutOfSpaceError();
 		}
-		// loop backwards, shifting items to the right.
-		for (int j = fill; j > index; j--) {
-			array[j] = array[j - 1];
+		if (index < 0 || index > fill) {
+			throw new BadIndexError();
+		}
+		if (index < fill / 2) {
+			// make room before the front, then shift the front items to the left.
+			head = slot(array.length - 1);
+			moveRange(1, 0, index);
+		} else {
+			// shift the back items to the right.
+			moveRange(index, index + 1, fill - index);
 		}
-		array[index] = item;
+		array[slot(index)] = item;
 		fill++;
 	}
 
+	/**
+	 * Add all the items of another list before {@code index}, in order. The items
+	 * on the shorter side of the index are moved once, by the whole count, so this
+	 * is O(n + k) instead of k calls to addIndex.
+	 * 
+	 * @param index  - a number from 0 to size, including size.
+	 * @param source - the items to add; it may be this list.
+	 * @throws RanOutOfSpaceError if they don't all fit; then nothing is added.
+	 * @throws BadIndexError      if the index does not exist.
+	 */
+	public void addAll(int index, P6List<? extends T> source) {
+		int count = source.size();
+		if (fill + count > array.length) {
+			throw new RanOutOfSpaceError();
+		}
+		if (index < 0 || index > fill) {
+			throw new BadIndexError();
+		}
+		Object[] items = ListCopies.itemsOf(source);
+		if (index < fill / 2) {
+			// make room before the front, then shift the front items to the left.
+			head = slot(array.length - count);
+			moveRange(count, 0, index);
+		} else {
+			// shift the back items to the right.
+			moveRange(index, index + count, fill - index);
+		}
+		// copy the new items in, in at most two blocks.
+		int first = Math.min(count, array.length - slot(index));
+		System.arraycopy(items, 0, array, slot(index), first);
+		System.arraycopy(items, first, array, 0, count - first);
+		fill += count;
+	}
+
+	/**
+	 * Copy every item of this list into an array, in at most two blocks. O(n)
+	 * 
+	 * @param dest    - where to copy to.
+	 * @param destPos - where in dest the first item goes.
+	 * @throws BadIndexError if dest does not have room for size() items there.
+	 */
+	public void copyInto(T[] dest, int destPos) {
+		copyItems(dest, destPos);
+	}
+
+	/**
+	 * The same as {@link #copyInto}, for our own Object arrays.
+	 */
+	void copyItems(Object[] dest, int destPos) {
+		if (destPos < 0 || destPos > dest.length - fill) {
+			throw new BadIndexError();
+		}
+		int first = Math.min(fill, array.length - head);
+		System.arraycopy(array, head, dest, destPos, first);
+		System.arraycopy(array, 0, dest, destPos + first, fill - first);
+	}
+
 	/**
 	 * Do not allow unchecked warnings in any other method. Keep the "guessing" the
 	 * objects are actually a T here. Do that by calling this method instead of
@@ -81,7 +211,7 @@ public class FixedSizeList<T> implements P6List<T> {
 		if (index < 0 || index >= fill) {
 			throw new BadIndexError();
 		}
-		return (T) this.array[index];
+		return (T) this.array[slot(index)];
 	}
 
 	@Override
@@ -89,6 +219,34 @@ public class FixedSizeList<T> implements P6List<T> {
 		return this.fill;
 	}
 
+	/**
+	 * @return how many items fit in this list.
+	 */
+	public int capacity() {
+		return this.array.length;
+	}
+
+	/**
+	 * Give the items from {@code from} to the end to an action, in order, reading
+	 * our array directly: one run up to the end of the array and one from its
+	 * start, if the items wrap around. O(size - from)
+	 *
+	 * @param from   - a number from 0 to size, including size.
+	 * @param action - what to do with each item.
+	 */
+	@SuppressWarnings("unchecked")
+	void forEachFrom(int from, Consumer<? super T> action) {
+		int start = slot(from);
+		int count = fill - from;
+		int first = Math.min(count, array.length - start);
+		for (int i = start; i < start + first; i++) {
+			action.accept((T) array[i]);
+		}
+		for (int i = 0; i < count - first; i++) {
+			action.accept((T) array[i]);
+		}
+	}
+
 	@Override
 	public boolean isEmpty() {
 		return this.fill == 0;
@@ -115,7 +273,7 @@ public class FixedSizeList<T> implements P6List<T> {
 	public int find(T item) {
 		for (int i = 0; i < fill; i++) {
 			// check each item one at a time.
-			if (item.equals(array[i])) {
+			if (item.equals(array[slot(i)])) {
 				return i;
 			}
 		}
@@ -125,9 +283,9 @@ public class FixedSizeList<T> implements P6List<T> {
 
 	/**
 	 * arr = [1,2,3] arr[2] = 4 arr = [1,2,4]
-	 * 
+	 *
 	 * arr[-1] => crash arr[10000] => crash if fill = 4
-	 * 
+	 *
 	 * @param index
 	 * @param item
 	 */
@@ -136,7 +294,7 @@ public class FixedSizeList<T> implements P6List<T> {
 		if (index >= fill || index < 0) {
 			throw new BadIndexError();
 		}
-		array[index] = item;
+		array[slot(index)] = item;
 	}
 
 	public void swap(int i, int j) {
@@ -144,4 +302,68 @@ public class FixedSizeList<T> implements P6List<T> {
 		setIndex(i, getIndex(j));
 		setIndex(j, tmp);
 	}
+
+	/**
+	 * Move the items at indices {@code [from, from + length)} to
+	 * {@code [to, to + length)}, where the ranges may overlap. This is one block
+	 * move, done as at most three System.arraycopy calls because either range may
+	 * wrap around the end of the array.
+	 * 
+	 * @param from   - the first index to move.
+	 * @param to     - where it should end up.
+	 * @param length - how many items to move.
+	 */
+	private void moveRange(int from, int to, int length) {
+		if (to > from) {
+			// moving right: copy the back pieces first so we never overwrite
+			// something we still need.
+			while (length > 0) {
+				int source = slot(from + length - 1);
+				int dest = slot(to + length - 1);
+				int count = Math.min(length, Math.min(source, dest) + 1);
+				System.arraycopy(array, source - count + 1, array, dest - count + 1, count);
+				length -= count;
+			}
+		} else if (to < from) {
+			// moving left: copy the front pieces first.
+			while (length > 0) {
+				int source = slot(from);
+				int dest = slot(to);
+				int count = Math.min(length, array.length - Math.max(source, dest));
+				System.arraycopy(array, source, array, dest, count);
+				from += count;
+				to += count;
+				length -= count;
+			}
+		}
+	}
+
+	/**
+	 * Forget the items at indices {@code [from, from + length)} so the garbage
+	 * collector can have them.
+	 * 
+	 * @param from   - the first index to clear.
+	 * @param length - how many to clear.
+	 */
+	private void clearRange(int from, int length) {
+		int start = slot(from);
+		int first = Math.min(length, array.length - start);
+		Arrays.fill(array, start, start + first, null);
+		Arrays.fill(array, 0, length - first, null);
+	}
+
+	/**
+	 * Where in the array does an index live? This also works for "one before the
+	 * front" as {@code slot(array.length - 1)}. O(1)
+	 *
+	 * @param index - a number from 0 to the length of the array.
+	 * @return a position in the array.
+	 */
+	private int slot(int index) {
+		int position = head + index;
+		if (position >= array.length) {
+			position -= array.length;
+		}
+		return position;
+	}
 }
@@ -0,0 +1,200 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.Arrays;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+/**
+ * A growable array with a hole in it, like the text buffer of an editor. The
+ * unused slots sit together as a "gap" at the place of the last edit, so the
+ * items live in {@code array[0, gapStart)} followed by
+ * {@code array[gapEnd, array.length)}.
+ *
+ * Adding or removing right at the gap is O(1). Editing somewhere else first
+ * moves the gap there with one block copy of the items in between, so a run
+ * of edits near the same place is cheap, unlike {@link GrowableList} which
+ * shifts the whole tail every time. getIndex is O(1) as usual.
+ *
+ * @param <T> - the type of item stored in the list.
+ */
+public class GapBufferList<T> implements P6List<T> {
+	public static final int START_SIZE = 32;
+	private Object[] array;
+	/**
+	 * The first unused slot, which is also the index of the gap.
+	 */
+	private int gapStart;
+	/**
+	 * The first used slot after the gap.
+	 */
+	private int gapEnd;
+
+	public GapBufferList() {
+		this.array = new Object[START_SIZE];
+		this.gapStart = 0;
+		this.gapEnd = START_SIZE;
+	}
+
+	// O(distance the gap moves)
+	@Override
+	public T removeFront() {
+		checkNotEmpty();
+		return removeIndex(0);
+	}
+
+	// O(distance the gap moves)
+	@Override
+	public T removeBack() {
+		checkNotEmpty();
+		return removeIndex(size() - 1);
+	}
+
+	/*
+	 * O(distance the gap moves), so O(1) right next to the last edit. We delete
+	 * from whichever side of the gap the index is already on.
+	 */
+	@Override
+	public T removeIndex(int index) {
+		checkNotEmpty();
+		checkIndex(index, size() - 1);
+		Object removed;
+		if (index < gapStart) {
+			// like backspace: the item is just before the gap.
+			moveGap(index + 1);
+			removed = array[--gapStart];
+			array[gapStart] = null;
+		} else {
+			// like delete: the item is just after the gap.
+			moveGap(index);
+			removed = array[gapEnd];
+			array[gapEnd++] = null;
+		}
+		return cast(removed);
+	}
+
+	// O(distance the gap moves)
+	@Override
+	public void addFront(T item) {
+		addIndex(item, 0);
+	}
+
+	// O(distance the gap moves)
+	@Override
+	public void addBack(T item) {
+		addIndex(item, size());
+	}
+
+	/*
+	 * O(distance the gap moves), so O(1) right next to the last edit, plus an
+	 * occasional O(n) to grow.
+	 */
+	@Override
+	public void addIndex(T item, int index) {
+		checkIndex(index, size());
+		if (gapStart == gapEnd) {
+			makeBigger();
+		}
+		moveGap(index);
+		array[gapStart++] = item;
+	}
+
+	// O(1)
+	@Override
+	public T getFront() {
+		checkNotEmpty();
+		return getIndex(0);
+	}
+
+	// O(1)
+	@Override
+	public T getBack() {
+		checkNotEmpty();
+		return getIndex(size() - 1);
+	}
+
+	// O(1), we just have to skip over the gap.
+	@Override
+	public T getIndex(int index) {
+		checkIndex(index, size() - 1);
+		return cast(array[index < gapStart ? index : index + (gapEnd - gapStart)]);
+	}
+
+	// O(1)
+	@Override
+	public int size() {
+		return array.length - (gapEnd - gapStart);
+	}
+
+	// O(1)
+	@Override
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	/**
+	 * Do not allow unchecked warnings in any other method. Keep the "guessing" the
+	 * objects are actually a T here.
+	 */
+	@SuppressWarnings("unchecked")
+	private T cast(Object item) {
+		return (T) item;
+	}
+
+	private void checkNotEmpty() {
+		if (this.isEmpty()) {
+			throw new EmptyListError();
+		}
+	}
+
+	/**
+	 * Helper method to throw the right error for an index out of bounds. O(1)
+	 *
+	 * @param index - the index the user asked for.
+	 * @param max   - the largest index that makes sense for this operation.
+	 */
+	private void checkIndex(int index, int max) {
+		if (index < 0 || index > max) {
+			throw new BadIndexError();
+		}
+	}
+
+	/**
+	 * Move the gap so that it starts at {@code index}, by copying the items
+	 * between here and there across it in one block. O(distance moved)
+	 *
+	 * @param index - a number from 0 to size, including size.
+	 */
+	private void moveGap(int index) {
+		int gap = gapEnd - gapStart;
+		if (index < gapStart) {
+			// the items in [index, gapStart) go to the other side of the gap.
+			int count = gapStart - index;
+			System.arraycopy(array, index, array, gapEnd - count, count);
+			gapStart = index;
+			gapEnd -= count;
+			// forget the copies the move left behind in the gap, and nothing else.
+			Arrays.fill(array, gapStart, gapStart + Math.min(count, gap), null);
+		} else if (index > gapStart) {
+			// the items in [gapEnd, gapEnd + count) come back before the gap.
+			int count = index - gapStart;
+			System.arraycopy(array, gapEnd, array, gapStart, count);
+			gapStart = index;
+			gapEnd += count;
+			Arrays.fill(array, gapEnd - Math.min(count, gap), gapEnd, null);
+		}
+	}
+
+	/**
+	 * Double the array, keeping the gap where it is and making it bigger.
+	 */
+	private void makeBigger() {
+		int length = Math.max(START_SIZE, array.length * 2);
+		Object[] arr = new Object[length];
+		int after = array.length - gapEnd;
+		System.arraycopy(array, 0, arr, 0, gapStart);
+		System.arraycopy(array, gapEnd, arr, length - after, after);
+		this.array = arr;
+		this.gapEnd = length - after;
+	}
+}
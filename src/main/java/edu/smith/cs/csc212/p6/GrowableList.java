@@ -1,5 +1,7 @@
 package edu.smith.cs.csc212.p6;
 
+import java.util.Arrays;
+
 import edu.smith.cs.csc212.p6.errors.BadIndexError;
 import edu.smith.cs.csc212.p6.errors.EmptyListError;
 
@@ -7,10 +9,71 @@ public class GrowableList<T> implements P6List<T> {
 	public static final int START_SIZE = 32;
 	private Object[] array;
 	private int fill;
+	/**
+	 * How to pick a new array size when we grow or shrink.
+	 */
+	private GrowthPolicy growth;
+	/**
+	 * Automatic shrinking never goes below the size we started with.
+	 */
+	private int minimumCapacity;
 
 	public GrowableList() {
+		this(START_SIZE, GrowthPolicy.DOUBLING);
+	}
+
+	/**
+	 * Make an empty list that doubles when it is full.
+	 * 
+	 * @param initialCapacity - how many items fit before it has to grow.
+	 */
+	public GrowableList(int initialCapacity) {
+		this(initialCapacity, GrowthPolicy.DOUBLING);
+	}
+
+	/**
+	 * Make an empty list that grows and shrinks the way you want.
+	 * 
+	 * @param initialCapacity - how many items fit before it has to grow.
+	 * @param growth          - how to pick new sizes, e.g.
+	 *                        {@code GrowthPolicy.ONE_AND_A_HALF.shrinkBelow(0.25)}.
+	 */
+	public GrowableList(int initialCapacity, GrowthPolicy growth) {
+		if (initialCapacity < 0) {
+			throw new IllegalArgumentException("initialCapacity must not be negative: " + initialCapacity);
+		}
+		this.array = new Object[initialCapacity];
+		this.fill = 0;
+		this.growth = growth;
+		this.minimumCapacity = initialCapacity;
+	}
+
+	/**
+	 * Use this array as our storage without copying it. The list owns it from
+	 * now on.
+	 * 
+	 * @param array - the first {@code fill} slots are the items.
+	 * @param fill  - how many items there are.
+	 */
+	GrowableList(Object[] array, int fill) {
+		this.array = array;
+		this.fill = fill;
+		this.growth = GrowthPolicy.DOUBLING;
+		this.minimumCapacity = array.length;
+	}
+
+	/**
+	 * Hand our storage over, not a copy, and start again as an empty list, so
+	 * nothing done to this list later can change the array we gave away.
+	 *
+	 * @return the old storage; only the first size() slots (from before this
+	 *         call) are items.
+	 */
+	Object[] detachArray() {
+		Object[] old = this.array;
 		this.array = new Object[START_SIZE];
 		this.fill = 0;
+		return old;
 	}
 
 	@Override
@@ -31,6 +94,7 @@ public class GrowableList<T> implements P6List<T> {
 		
 		// set it to null and return it
 		this.array[fill] = null;
+		maybeShrink();
 		return value;
 	}
 
@@ -50,33 +114,106 @@ public class GrowableList<T> implements P6List<T> {
 		T removed = this.getIndex(index);
 		fill--;
 		
-		// move items one step after until we get to 
-		// the index
-		for (int i = index; i < fill; i++) {
-			this.array[i] = this.array[i + 1];
-		}
+		// move the items after the index one step
+		// forward, in one block
+		System.arraycopy(this.array, index + 1, this.array, index, fill - index);
 		this.array[fill] = null;
+		maybeShrink();
 		return removed;
 	}
+
+	/**
+	 * Delete the items from {@code from} up to but not including {@code to}, with
+	 * a single block move of the items after them. O(n)
+	 * 
+	 * @param from - the first index to delete.
+	 * @param to   - one past the last index to delete.
+	 * @throws BadIndexError if the range is not inside the list.
+	 */
+	public void removeRange(int from, int to) {
+		if (from < 0 || from > to || to > fill) {
+			throw new BadIndexError();
+		}
+		int count = to - from;
+		System.arraycopy(this.array, to, this.array, from, fill - to);
+		Arrays.fill(this.array, fill - count, fill, null);
+		fill -= count;
+		maybeShrink();
+	}
 	
 	/**
 	 * Method that helps us make the growable list bigger
-	 * when it runs out of space (it makes it twice 
+	 * when it runs out of space (by default it makes it twice 
 	 * the original size)
 	 */
 	private void makeBigger() {
-		// make a new array of a bigger size
-		Object[] arr = new Object[this.array.length * 2];
+		makeBigger(fill + 1);
+	}
+
+	/**
+	 * Grow by our policy until at least {@code needed} items fit.
+	 * 
+	 * @param needed - how many items must fit.
+	 */
+	private void makeBigger(int needed) {
+		resize(growth.grow(this.array.length, needed));
+	}
+
+	/**
+	 * Give memory back if our policy says the list has become too empty.
+	 */
+	private void maybeShrink() {
+		int length = growth.shrink(this.array.length, fill, minimumCapacity);
+		if (length < this.array.length) {
+			resize(length);
+		}
+	}
+
+	/**
+	 * Move the items to a new array of exactly this length, in one block.
+	 * 
+	 * @param length - at least size().
+	 */
+	private void resize(int length) {
+		// make a new array of the new size
+		Object[] arr = new Object[length];
 		
 		// add all items in old array to the new array
-		for (int i = 0; i < fill; i++) {
-			arr[i] = this.array[i];
-		}
+		System.arraycopy(this.array, 0, arr, 0, fill);
 		
 		// no save the new array to be our set list
 		this.array = arr;
 	}
 
+	/**
+	 * Make sure at least {@code needed} items fit without growing again. The new
+	 * size is picked by our growth policy, so it may be bigger than needed.
+	 * 
+	 * @param needed - how many items should fit.
+	 */
+	public void ensureCapacity(int needed) {
+		if (needed > this.array.length) {
+			makeBigger(needed);
+		}
+	}
+
+	/**
+	 * Shrink the array to exactly size() slots, giving back all spare memory. The
+	 * next add will have to grow again. O(n)
+	 */
+	public void trimToSize() {
+		if (fill < this.array.length) {
+			resize(fill);
+		}
+	}
+
+	/**
+	 * @return how many items fit before the list has to grow.
+	 */
+	public int capacity() {
+		return this.array.length;
+	}
+
 	// O(n) because addIndex uses O(n) time
 	@Override
 	public void addFront(T item) {
@@ -118,10 +255,8 @@ public class GrowableList<T> implements P6List<T> {
 			throw new BadIndexError();
 		} else {
 			// otherwise, move items one step behind 
-			// to fit the new index
-			for (int j = fill; j > index; j--) {
-				array[j] = array[j - 1];
-			}
+			// to fit the new index, in one block
+			System.arraycopy(array, index, array, index + 1, fill - index);
 			
 			// set the item at the new index
 			array[index] = item;
@@ -129,6 +264,54 @@ public class GrowableList<T> implements P6List<T> {
 		}
 	}
 
+	/**
+	 * Add all the items of another list before {@code index}, in order. The items
+	 * after the index are moved once, by the whole count, so this is O(n + k)
+	 * instead of k calls to addIndex.
+	 * 
+	 * @param index  - a number from 0 to size, including size.
+	 * @param source - the items to add; it may be this list.
+	 * @throws BadIndexError if the index does not exist.
+	 */
+	public void addAll(int index, P6List<? extends T> source) {
+		if (index < 0 || index > fill) {
+			throw new BadIndexError();
+		}
+		Object[] items = ListCopies.itemsOf(source);
+		if (fill + items.length > this.array.length) {
+			// copy both sides of the gap straight to where they end up in the new array.
+			Object[] arr = new Object[growth.grow(this.array.length, fill + items.length)];
+			System.arraycopy(array, 0, arr, 0, index);
+			System.arraycopy(array, index, arr, index + items.length, fill - index);
+			this.array = arr;
+		} else {
+			System.arraycopy(array, index, array, index + items.length, fill - index);
+		}
+		System.arraycopy(items, 0, array, index, items.length);
+		fill += items.length;
+	}
+
+	/**
+	 * Copy every item of this list into an array, in one block. O(n)
+	 * 
+	 * @param dest    - where to copy to.
+	 * @param destPos - where in dest the first item goes.
+	 * @throws BadIndexError if dest does not have room for size() items there.
+	 */
+	public void copyInto(T[] dest, int destPos) {
+		copyItems(dest, destPos);
+	}
+
+	/**
+	 * The same as {@link #copyInto}, for our own Object arrays.
+	 */
+	void copyItems(Object[] dest, int destPos) {
+		if (destPos < 0 || destPos > dest.length - fill) {
+			throw new BadIndexError();
+		}
+		System.arraycopy(this.array, 0, dest, destPos, fill);
+	}
+
 	// O(1), it's easy to get anything in this list
 	@Override
 	public T getFront() {
@@ -0,0 +1,122 @@
+package edu.smith.cs.csc212.p6;
+
+/**
+ * How a {@link GrowableList} picks a new array size. It grows either by a
+ * factor (2x, 1.5x, ...) or by a fixed number of slots, and it can optionally
+ * shrink once the list gets much emptier than its array.
+ *
+ * Shrinking has hysteresis: when fewer than {@code shrinkBelow * capacity}
+ * slots are used, the array shrinks to twice the number of items. Because
+ * shrinkBelow has to be less than 1/2, a list right after a shrink needs to
+ * double to grow again or lose a further chunk of items to shrink again, so it
+ * never thrashes between two sizes.
+ *
+ * Policies are immutable, so one can be shared by many lists.
+ */
+public final class GrowthPolicy {
+	/**
+	 * Double the array when it is full and never shrink. This is what
+	 * GrowableList always did.
+	 */
+	public static final GrowthPolicy DOUBLING = multiply(2.0);
+	/**
+	 * Grow by half when full and never shrink. This wastes less memory than
+	 * doubling but copies more often.
+	 */
+	public static final GrowthPolicy ONE_AND_A_HALF = multiply(1.5);
+
+	/**
+	 * Multiply the size by this, or 0 if we add instead.
+	 */
+	private final double factor;
+	/**
+	 * Add this many slots, or 0 if we multiply instead.
+	 */
+	private final int step;
+	/**
+	 * Shrink when fewer than this fraction of slots are used; 0 means never.
+	 */
+	private final double shrinkBelow;
+
+	private GrowthPolicy(double factor, int step, double shrinkBelow) {
+		this.factor = factor;
+		this.step = step;
+		this.shrinkBelow = shrinkBelow;
+	}
+
+	/**
+	 * Grow by a factor.
+	 *
+	 * @param factor - more than 1.
+	 * @return a policy that never shrinks.
+	 */
+	public static GrowthPolicy multiply(double factor) {
+		if (!(factor > 1.0)) {
+			throw new IllegalArgumentException("growth factor must be more than 1: " + factor);
+		}
+		return new GrowthPolicy(factor, 0, 0.0);
+	}
+
+	/**
+	 * Grow by a fixed number of slots. Appending n items then costs O(n^2 / step)
+	 * in copies, so only use this when you know roughly how big the list gets.
+	 *
+	 * @param step - at least 1.
+	 * @return a policy that never shrinks.
+	 */
+	public static GrowthPolicy add(int step) {
+		if (step < 1) {
+			throw new IllegalArgumentException("growth step must be at least 1: " + step);
+		}
+		return new GrowthPolicy(0.0, step, 0.0);
+	}
+
+	/**
+	 * The same policy, but shrinking automatically after removes.
+	 *
+	 * @param fraction - shrink when fewer than this fraction of the slots are used;
+	 *                 from 0 (never) up to but not including 1/2.
+	 * @return a new policy.
+	 */
+	public GrowthPolicy shrinkBelow(double fraction) {
+		if (!(fraction >= 0.0 && fraction < 0.5)) {
+			throw new IllegalArgumentException("shrink threshold must be in [0, 0.5): " + fraction);
+		}
+		return new GrowthPolicy(factor, step, fraction);
+	}
+
+	/**
+	 * How big should the array be, now that it is too small?
+	 *
+	 * @param capacity - the current array length.
+	 * @param needed   - how many items must fit.
+	 * @return a length of at least needed.
+	 */
+	int grow(int capacity, int needed) {
+		long length = Math.max(1, capacity);
+		while (length < needed) {
+			if (step > 0) {
+				length += step;
+			} else {
+				// make sure we always make progress, even for tiny arrays.
+				length = Math.max(length + 1, (long) (length * factor));
+			}
+		}
+		return (int) Math.min(Integer.MAX_VALUE - 8, Math.max(length, needed));
+	}
+
+	/**
+	 * How big should the array be after a remove?
+	 *
+	 * @param capacity - the current array length.
+	 * @param fill     - how many items are in the list.
+	 * @param minimum  - never shrink below this.
+	 * @return a new length, or capacity if we should not shrink.
+	 */
+	int shrink(int capacity, int fill, int minimum) {
+		if (fill >= shrinkBelow * capacity) {
+			return capacity;
+		}
+		return Math.min(capacity, Math.max(minimum, 2 * fill));
+	}
+}
@@ -0,0 +1,212 @@
+package edu.smith.cs.csc212.p6;
+
+import java.nio.IntBuffer;
+import java.util.Arrays;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+import edu.smith.cs.csc212.p6.errors.RanOutOfSpaceError;
+
+/**
+ * A {@link FixedSizeList} of {@code int} values that stores them unboxed in
+ * a {@code int[]}. It is a {@code P6List<Integer>}, but the
+ * {@code ...Int} methods never box, so numeric code should prefer them.
+ *
+ * GENERATED from src/main/templates/PrimitiveFixedSizeList.java.tmpl by
+ * GeneratePrimitiveLists; edit the template, not this file.
+ */
+public class IntFixedSizeList implements P6List<Integer> {
+	private int[] array;
+	private int fill;
+
+	/**
+	 * @param maximumSize - how many values it can ever hold.
+	 */
+	public IntFixedSizeList(int maximumSize) {
+		this.array = new int[maximumSize];
+		this.fill = 0;
+	}
+
+	// O(n)
+	public int removeIntFront() {
+		return removeIntIndex(0);
+	}
+
+	// O(1)
+	public int removeIntBack() {
+		checkNotEmpty();
+		return array[--fill];
+	}
+
+	// O(n), one block move
+	public int removeIntIndex(int index) {
+		checkNotEmpty();
+		int removed = getInt(index);
+		fill--;
+		System.arraycopy(array, index + 1, array, index, fill - index);
+		return removed;
+	}
+
+	// O(n), one block move
+	public void addIntFront(int value) {
+		addIntIndex(value, 0);
+	}
+
+	// O(1)
+	public void addInt(int value) {
+		checkNotFull(1);
+		array[fill++] = value;
+	}
+
+	// O(n), one block move
+	public void addIntIndex(int value, int index) {
+		checkNotFull(1);
+		if (index < 0 || index > fill) {
+			throw new BadIndexError();
+		}
+		System.arraycopy(array, index, array, index + 1, fill - index);
+		array[index] = value;
+		fill++;
+	}
+
+	/**
+	 * Add many values to the back at once. O(k)
+	 *
+	 * @param values - where to take them from.
+	 * @param from   - the first index of values to add.
+	 * @param to     - one past the last index of values to add.
+	 * @throws RanOutOfSpaceError if they don't all fit; then nothing is added.
+	 */
+	public void addAllInts(int[] values, int from, int to) {
+		if (from < 0 || from > to || to > values.length) {
+			throw new BadIndexError();
+		}
+		int count = to - from;
+		checkNotFull(count);
+		System.arraycopy(values, from, array, fill, count);
+		fill += count;
+	}
+
+	// O(1)
+	public int getInt(int index) {
+		if (index < 0 || index >= fill) {
+			throw new BadIndexError();
+		}
+		return array[index];
+	}
+
+	// O(1)
+	public int getIntFront() {
+		checkNotEmpty();
+		return array[0];
+	}
+
+	// O(1)
+	public int getIntBack() {
+		checkNotEmpty();
+		return array[fill - 1];
+	}
+
+	// O(1)
+	public void setInt(int index, int value) {
+		if (index < 0 || index >= fill) {
+			throw new BadIndexError();
+		}
+		array[index] = value;
+	}
+
+	/**
+	 * Copy the values out into a new array of exactly size() values. O(n)
+	 *
+	 * @return the copy.
+	 */
+	public int[] toIntArray() {
+		return Arrays.copyOf(array, fill);
+	}
+
+	/**
+	 * A read-only view of the values, without copying them. The view does not
+	 * follow later changes to size(). O(1)
+	 *
+	 * @return a buffer whose position is 0 and whose limit is size().
+	 */
+	public IntBuffer asIntBuffer() {
+		return IntBuffer.wrap(array, 0, fill).slice().asReadOnlyBuffer();
+	}
+
+	/**
+	 * @return how many values this list can ever hold.
+	 */
+	public int capacity() {
+		return array.length;
+	}
+
+	@Override
+	public Integer removeFront() {
+		return removeIntFront();
+	}
+
+	@Override
+	public Integer removeBack() {
+		return removeIntBack();
+	}
+
+	@Override
+	public Integer removeIndex(int index) {
+		return removeIntIndex(index);
+	}
+
+	@Override
+	public void addFront(Integer item) {
+		addIntFront(item);
+	}
+
+	@Override
+	public void addBack(Integer item) {
+		addInt(item);
+	}
+
+	@Override
+	public void addIndex(Integer item, int index) {
+		addIntIndex(item, index);
+	}
+
+	@Override
+	public Integer getFront() {
+		return getIntFront();
+	}
+
+	@Override
+	public Integer getBack() {
+		return getIntBack();
+	}
+
+	@Override
+	public Integer getIndex(int index) {
+		return getInt(index);
+	}
+
+	// O(1)
+	@Override
+	public int size() {
+		return fill;
+	}
+
+	// O(1)
+	@Override
+	public boolean isEmpty() {
+		return fill == 0;
+	}
+
+	private void checkNotEmpty() {
+		if (fill == 0) {
+			throw new EmptyListError();
+		}
+	}
+
+	private void checkNotFull(int adding) {
+		if (fill + adding > array.length) {
+			throw new RanOutOfSpaceError();
+		}
+	}
+}
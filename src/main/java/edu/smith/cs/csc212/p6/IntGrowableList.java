@@ -0,0 +1,219 @@
+package edu.smith.cs.csc212.p6;
+
+import java.nio.IntBuffer;
+import java.util.Arrays;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+/**
+ * A {@link GrowableList} of {@code int} values that stores them unboxed in a
+ * {@code int[]}. It is a {@code P6List<Integer>}, but the {@code ...Int}
+ * methods never box, so numeric code should prefer them.
+ *
+ * GENERATED from src/main/templates/PrimitiveGrowableList.java.tmpl by
+ * GeneratePrimitiveLists; edit the template, not this file.
+ */
+public class IntGrowableList implements P6List<Integer> {
+	public static final int START_SIZE = 32;
+	private int[] array;
+	private int fill;
+
+	public IntGrowableList() {
+		this(START_SIZE);
+	}
+
+	/**
+	 * @param initialCapacity - how many values fit before we have to grow.
+	 */
+	public IntGrowableList(int initialCapacity) {
+		this.array = new int[Math.max(1, initialCapacity)];
+		this.fill = 0;
+	}
+
+	// O(n)
+	public int removeIntFront() {
+		return removeIntIndex(0);
+	}
+
+	// O(1)
+	public int removeIntBack() {
+		checkNotEmpty();
+		return array[--fill];
+	}
+
+	// O(n), one block move
+	public int removeIntIndex(int index) {
+		checkNotEmpty();
+		int removed = getInt(index);
+		fill--;
+		System.arraycopy(array, index + 1, array, index, fill - index);
+		return removed;
+	}
+
+	// O(n), one block move
+	public void addIntFront(int value) {
+		addIntIndex(value, 0);
+	}
+
+	// O(1) amortized
+	public void addInt(int value) {
+		if (fill >= array.length) {
+			makeBigger(fill + 1);
+		}
+		array[fill++] = value;
+	}
+
+	// O(n), one block move
+	public void addIntIndex(int value, int index) {
+		if (index < 0 || index > fill) {
+			throw new BadIndexError();
+		}
+		if (fill >= array.length) {
+			makeBigger(fill + 1);
+		}
+		System.arraycopy(array, index, array, index + 1, fill - index);
+		array[index] = value;
+		fill++;
+	}
+
+	/**
+	 * Add many values to the back at once. O(k) amortized
+	 *
+	 * @param values - where to take them from.
+	 * @param from   - the first index of values to add.
+	 * @param to     - one past the last index of values to add.
+	 */
+	public void addAllInts(int[] values, int from, int to) {
+		if (from < 0 || from > to || to > values.length) {
+			throw new BadIndexError();
+		}
+		int count = to - from;
+		if (fill + count > array.length) {
+			makeBigger(fill + count);
+		}
+		System.arraycopy(values, from, array, fill, count);
+		fill += count;
+	}
+
+	// O(1)
+	public int getInt(int index) {
+		if (index < 0 || index >= fill) {
+			throw new BadIndexError();
+		}
+		return array[index];
+	}
+
+	// O(1)
+	public int getIntFront() {
+		checkNotEmpty();
+		return array[0];
+	}
+
+	// O(1)
+	public int getIntBack() {
+		checkNotEmpty();
+		return array[fill - 1];
+	}
+
+	// O(1)
+	public void setInt(int index, int value) {
+		if (index < 0 || index >= fill) {
+			throw new BadIndexError();
+		}
+		array[index] = value;
+	}
+
+	/**
+	 * Copy the values out into a new array of exactly size() values. O(n)
+	 *
+	 * @return the copy.
+	 */
+	public int[] toIntArray() {
+		return Arrays.copyOf(array, fill);
+	}
+
+	/**
+	 * A read-only view of the values, without copying them. The view stops
+	 * following this list once it grows or shrinks. O(1)
+	 *
+	 * @return a buffer whose position is 0 and whose limit is size().
+	 */
+	public IntBuffer asIntBuffer() {
+		return IntBuffer.wrap(array, 0, fill).slice().asReadOnlyBuffer();
+	}
+
+	@Override
+	public Integer removeFront() {
+		return removeIntFront();
+	}
+
+	@Override
+	public Integer removeBack() {
+		return removeIntBack();
+	}
+
+	@Override
+	public Integer removeIndex(int index) {
+		return removeIntIndex(index);
+	}
+
+	@Override
+	public void addFront(Integer item) {
+		addIntFront(item);
+	}
+
+	@Override
+	public void addBack(Integer item) {
+		addInt(item);
+	}
+
+	@Override
+	public void addIndex(Integer item, int index) {
+		addIntIndex(item, index);
+	}
+
+	@Override
+	public Integer getFront() {
+		return getIntFront();
+	}
+
+	@Override
+	public Integer getBack() {
+		return getIntBack();
+	}
+
+	@Override
+	public Integer getIndex(int index) {
+		return getInt(index);
+	}
+
+	// O(1)
+	@Override
+	public int size() {
+		return fill;
+	}
+
+	// O(1)
+	@Override
+	public boolean isEmpty() {
+		return fill == 0;
+	}
+
+	private void checkNotEmpty() {
+		if (fill == 0) {
+			throw new EmptyListError();
+		}
+	}
+
+	/**
+	 * Keep doubling the size until at least {@code needed} values fit, the same
+	 * way a {@link GrowableList} does, so the length never goes past the largest
+	 * array we can make.
+	 *
+	 * @param needed - how many values must fit.
+	 */
+	private void makeBigger(int needed) {
+		array = Arrays.copyOf(array, GrowthPolicy.DOUBLING.grow(array.length, needed));
+	}
+}
@@ -0,0 +1,39 @@
+package edu.smith.cs.csc212.p6;
+
+/**
+ * Helpers for the bulk operations of the array-backed lists.
+ */
+final class ListCopies {
+	private ListCopies() {
+		// only static methods here.
+	}
+
+	/**
+	 * Copy the items of any list into a new array, in order. Array-backed lists
+	 * copy in blocks and iterable lists are walked once, so this is O(k) for all
+	 * of our lists; anything else falls back to getIndex.
+	 * 
+	 * Taking a copy first also makes {@code list.addAll(i, list)} safe.
+	 * 
+	 * @param source - the list to copy.
+	 * @return a new array of exactly source.size() items.
+	 */
+	static Object[] itemsOf(P6List<?> source) {
+		Object[] items = new Object[source.size()];
+		if (source instanceof GrowableList) {
+			((GrowableList<?>) source).copyItems(items, 0);
+		} else if (source instanceof FixedSizeList) {
+			((FixedSizeList<?>) source).copyItems(items, 0);
+		} else if (source instanceof Iterable) {
+			int i = 0;
+			for (Object item : (Iterable<?>) source) {
+				items[i++] = item;
+			}
+		} else {
+			for (int i = 0; i < items.length; i++) {
+				items[i] = source.getIndex(i);
+			}
+		}
+		return items;
+	}
+}
@@ -0,0 +1,212 @@
+package edu.smith.cs.csc212.p6;
+
+import java.nio.LongBuffer;
+import java.util.Arrays;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+import edu.smith.cs.csc212.p6.errors.RanOutOfSpaceError;
+
+/**
+ * A {@link FixedSizeList} of {@code long} values that stores them unboxed in
+ * a {@code long[]}. It is a {@code P6List<Long>}, but the
+ * {@code ...Long} methods never box, so numeric code should prefer them.
+ *
+ * GENERATED from src/main/templates/PrimitiveFixedSizeList.java.tmpl by
+ * GeneratePrimitiveLists; edit the template, not this file.
+ */
+public class LongFixedSizeList implements P6List<Long> {
+	private long[] array;
+	private int fill;
+
+	/**
+	 * @param maximumSize - how many values it can ever hold.
+	 */
+	public LongFixedSizeList(int maximumSize) {
+		this.array = new long[maximumSize];
+		this.fill = 0;
+	}
+
+	// O(n)
+	public long removeLongFront() {
+		return removeLongIndex(0);
+	}
+
+	// O(1)
+	public long removeLongBack() {
+		checkNotEmpty();
+		return array[--fill];
+	}
+
+	// O(n), one block move
+	public long removeLongIndex(int index) {
+		checkNotEmpty();
+		long removed = getLong(index);
+		fill--;
+		System.arraycopy(array, index + 1, array, index, fill - index);
+		return removed;
+	}
+
+	// O(n), one block move
+	public void addLongFront(long value) {
+		addLongIndex(value, 0);
+	}
+
+	// O(1)
+	public void addLong(long value) {
+		checkNotFull(1);
+		array[fill++] = value;
+	}
+
+	// O(n), one block move
+	public void addLongIndex(long value, int index) {
+		checkNotFull(1);
+		if (index < 0 || index > fill) {
+			throw new BadIndexError();
+		}
+		System.arraycopy(array, index, array, index + 1, fill - index);
+		array[index] = value;
+		fill++;
+	}
+
+	/**
+	 * Add many values to the back at once. O(k)
+	 *
+	 * @param values - where to take them from.
+	 * @param from   - the first index of values to add.
+	 * @param to     - one past the last index of values to add.
+	 * @throws RanOutOfSpaceError if they don't all fit; then nothing is added.
+	 */
+	public void addAllLongs(long[] values, int from, int to) {
+		if (from < 0 || from > to || to > values.length) {
+			throw new BadIndexError();
+		}
+		int count = to - from;
+		checkNotFull(count);
+		System.arraycopy(values, from, array, fill, count);
+		fill += count;
+	}
+
+	// O(1)
+	public long getLong(int index) {
+		if (index < 0 || index >= fill) {
+			throw new BadIndexError();
+		}
+		return array[index];
+	}
+
+	// O(1)
+	public long getLongFront() {
+		checkNotEmpty();
+		return array[0];
+	}
+
+	// O(1)
+	public long getLongBack() {
+		checkNotEmpty();
+		return array[fill - 1];
+	}
+
+	// O(1)
+	public void setLong(int index, long value) {
+		if (index < 0 || index >= fill) {
+			throw new BadIndexError();
+		}
+		array[index] = value;
+	}
+
+	/**
+	 * Copy the values out into a new array of exactly size() values. O(n)
+	 *
+	 * @return the copy.
+	 */
+	public long[] toLongArray() {
+		return Arrays.copyOf(array, fill);
+	}
+
+	/**
+	 * A read-only view of the values, without copying them. The view does not
+	 * follow later changes to size(). O(1)
+	 *
+	 * @return a buffer whose position is 0 and whose limit is size().
+	 */
+	public LongBuffer asLongBuffer() {
+		return LongBuffer.wrap(array, 0, fill).slice().asReadOnlyBuffer();
+	}
+
+	/**
+	 * @return how many values this list can ever hold.
+	 */
+	public int capacity() {
+		return array.length;
+	}
+
+	@Override
+	public Long removeFront() {
+		return removeLongFront();
+	}
+
+	@Override
+	public Long removeBack() {
+		return removeLongBack();
+	}
+
+	@Override
+	public Long removeIndex(int index) {
+		return removeLongIndex(index);
+	}
+
+	@Override
+	public void addFront(Long item) {
+		addLongFront(item);
+	}
+
+	@Override
+	public void addBack(Long item) {
+		addLong(item);
+	}
+
+	@Override
+	public void addIndex(Long item, int index) {
+		addLongIndex(item, index);
+	}
+
+	@Override
+	public Long getFront() {
+		return getLongFront();
+	}
+
+	@Override
+	public Long getBack() {
+		return getLongBack();
+	}
+
+	@Override
+	public Long getIndex(int index) {
+		return getLong(index);
+	}
+
+	// O(1)
+	@Override
+	public int size() {
+		return fill;
+	}
+
+	// O(1)
+	@Override
+	public boolean isEmpty() {
+		return fill == 0;
+	}
+
+	private void checkNotEmpty() {
+		if (fill == 0) {
+			throw new EmptyListError();
+		}
+	}
+
+	private void checkNotFull(int adding) {
+		if (fill + adding > array.length) {
+			throw new RanOutOfSpaceError();
+		}
+	}
+}
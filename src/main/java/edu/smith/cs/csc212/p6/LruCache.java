@@ -0,0 +1,207 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * A cache that holds at most {@code capacity} entries and forgets the least
+ * recently used one when it needs room. The entries live in a
+ * {@link DoublyLinkedList} from most to least recently used, and a HashMap
+ * finds the {@link DoublyLinkedList.Handle} for a key, so get, put and eviction
+ * are all O(1).
+ *
+ * @param <K> the type of the keys.
+ * @param <V> the type of the values.
+ */
+public class LruCache<K, V> {
+	/**
+	 * How many entries can we hold before we evict one?
+	 */
+	private int capacity;
+	/**
+	 * The entries, most recently used at the front.
+	 */
+	private DoublyLinkedList<Entry<K, V>> recent;
+	/**
+	 * Where each key lives in {@link #recent}.
+	 */
+	private Map<K, DoublyLinkedList.Handle<Entry<K, V>>> index;
+	/**
+	 * Who to tell when an entry is evicted, or null.
+	 */
+	private BiConsumer<? super K, ? super V> onEvict;
+	private long hits;
+	private long misses;
+	private long evictions;
+
+	/**
+	 * Make an empty cache.
+	 *
+	 * @param capacity - the most entries it may hold, at least 1.
+	 */
+	public LruCache(int capacity) {
+		this(capacity, null);
+	}
+
+	/**
+	 * Make an empty cache that reports evictions.
+	 *
+	 * @param capacity - the most entries it may hold, at least 1.
+	 * @param onEvict  - called with the key and value of every evicted entry, or
+	 *                 null.
+	 */
+	public LruCache(int capacity, BiConsumer<? super K, ? super V> onEvict) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException("capacity must be at least 1: " + capacity);
+		}
+		this.capacity = capacity;
+		this.recent = new DoublyLinkedList<>();
+		this.index = new HashMap<>();
+		this.onEvict = onEvict;
+	}
+
+	/**
+	 * Look up a key and mark it as the most recently used. O(1)
+	 *
+	 * @param key - what to look for.
+	 * @return the value, or null if the key is not in the cache.
+	 */
+	public V get(K key) {
+		DoublyLinkedList.Handle<Entry<K, V>> found = index.get(key);
+		if (found == null) {
+			misses++;
+			return null;
+		}
+		hits++;
+		recent.moveToFront(found);
+		return found.getValue().value;
+	}
+
+	/**
+	 * Store a value for a key and mark it as the most recently used. If the cache
+	 * is then too full, the least recently used entry is evicted. O(1)
+	 *
+	 * @param key   - where to store it.
+	 * @param value - what to store.
+	 * @return the value that was there before, or null.
+	 */
+	public V put(K key, V value) {
+		DoublyLinkedList.Handle<Entry<K, V>> found = index.get(key);
+		if (found != null) {
+			Entry<K, V> entry = found.getValue();
+			V previous = entry.value;
+			entry.value = value;
+			recent.moveToFront(found);
+			return previous;
+		}
+		index.put(key, recent.addFrontHandle(new Entry<>(key, value)));
+		evictExtra();
+		return null;
+	}
+
+	/**
+	 * Forget a key without counting it as an eviction. O(1)
+	 *
+	 * @param key - what to forget.
+	 * @return the value it had, or null if it was not in the cache.
+	 */
+	public V remove(K key) {
+		DoublyLinkedList.Handle<Entry<K, V>> found = index.remove(key);
+		if (found == null) {
+			return null;
+		}
+		return recent.remove(found).value;
+	}
+
+	/**
+	 * Is this key in the cache? This does not count as a use. O(1)
+	 *
+	 * @param key - what to look for.
+	 * @return true if get(key) would hit.
+	 */
+	public boolean containsKey(K key) {
+		return index.containsKey(key);
+	}
+
+	/**
+	 * Change how many entries we may hold, evicting right away if we now hold too
+	 * many.
+	 *
+	 * @param capacity - the most entries it may hold, at least 1.
+	 */
+	public void setCapacity(int capacity) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException("capacity must be at least 1: " + capacity);
+		}
+		this.capacity = capacity;
+		evictExtra();
+	}
+
+	/**
+	 * Evict least recently used entries until we are within capacity.
+	 */
+	private void evictExtra() {
+		while (recent.size() > capacity) {
+			Entry<K, V> oldest = recent.removeBack();
+			index.remove(oldest.key);
+			evictions++;
+			if (onEvict != null) {
+				onEvict.accept(oldest.key, oldest.value);
+			}
+		}
+	}
+
+	// O(1)
+	public int size() {
+		return recent.size();
+	}
+
+	// O(1)
+	public int capacity() {
+		return capacity;
+	}
+
+	/**
+	 * @return how many calls to get found their key.
+	 */
+	public long getHits() {
+		return hits;
+	}
+
+	/**
+	 * @return how many calls to get did not find their key.
+	 */
+	public long getMisses() {
+		return misses;
+	}
+
+	/**
+	 * @return how many entries were thrown out to make room.
+	 */
+	public long getEvictions() {
+		return evictions;
+	}
+
+	/**
+	 * Start counting hits, misses and evictions from zero again.
+	 */
+	public void resetCounters() {
+		hits = 0;
+		misses = 0;
+		evictions = 0;
+	}
+
+	/**
+	 * One key and its value, as stored in the list.
+	 */
+	private static class Entry<K, V> {
+		final K key;
+		V value;
+
+		Entry(K key, V value) {
+			this.key = key;
+			this.value = value;
+		}
+	}
+}
@@ -0,0 +1,206 @@
+package edu.smith.cs.csc212.p6;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A list of fixed-width records that lives in a memory-mapped file. The file
+ * IS the list: items are encoded by a {@link RecordCodec} straight into the
+ * mapped pages, so opening the file again later gives the list back right
+ * away, with no pass over the items to read them in.
+ *
+ * The file starts with a small header (which codec width and segment size it
+ * was made with, and how many items it holds) followed by the segments. The
+ * list grows by mapping one more segment past the end of the file.
+ *
+ * Records reach the file whenever the operating system writes the pages back,
+ * but the size in the header is only updated by {@link #force()} and
+ * {@link #close()}, after the records. Call force() when changes have to be on
+ * disk, e.g. before telling someone else the data is saved; without it, opening
+ * the file after a crash gives the list as of the last force() or close().
+ *
+ * Only one MappedP6List should have a file open at a time.
+ *
+ * @param <T> - the type of item stored in the list.
+ */
+public class MappedP6List<T> extends SegmentedRecordList<T> {
+	/**
+	 * 4K records per segment, so a segment is 4K times the record width in bytes:
+	 * 64KB of 16 byte records, 16KB of ints.
+	 */
+	public static final int DEFAULT_RECORDS_PER_SEGMENT = 4 * 1024;
+	/**
+	 * "P6ML" so we do not open some random file as a list.
+	 */
+	private static final int MAGIC = 0x50364d4c;
+	private static final int VERSION = 1;
+	/**
+	 * Bytes before the first segment; leaves room to add fields later.
+	 */
+	static final int HEADER_SIZE = 64;
+	private static final int MAGIC_AT = 0;
+	private static final int VERSION_AT = 4;
+	private static final int WIDTH_AT = 8;
+	private static final int PER_SEGMENT_AT = 12;
+	private static final int SIZE_AT = 16;
+
+	private final FileChannel channel;
+	private final MappedByteBuffer header;
+
+	/**
+	 * Open a list file, or make a new one with the default segment size.
+	 *
+	 * @param file  - where the list lives.
+	 * @param codec - how to turn items into bytes; must have the same width as
+	 *              the one the file was made with.
+	 * @return the list, with whatever was in the file.
+	 * @throws IOException if the file cannot be opened or is not a list of
+	 *                     records of this width.
+	 */
+	public static <T> MappedP6List<T> open(Path file, RecordCodec<T> codec) throws IOException {
+		return open(file, codec, DEFAULT_RECORDS_PER_SEGMENT);
+	}
+
+	/**
+	 * Open a list file, or make a new one.
+	 *
+	 * @param file              - where the list lives.
+	 * @param codec             - how to turn items into bytes; must have the same
+	 *                          width as the one the file was made with.
+	 * @param recordsPerSegment - how many records to map at a time in a new file.
+	 *                          An existing file keeps the segment size it was
+	 *                          made with.
+	 * @return the list, with whatever was in the file.
+	 * @throws IOException if the file cannot be opened or is not a list of
+	 *                     records of this width.
+	 */
+	public static <T> MappedP6List<T> open(Path file, RecordCodec<T> codec, int recordsPerSegment)
+			throws IOException {
+		// check this before we make a file, so a bad value cannot leave a bad header.
+		if (recordsPerSegment < 1 || (long) recordsPerSegment * codec.width() > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("bad segment size: " + recordsPerSegment);
+		}
+		FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+				StandardOpenOption.WRITE);
+		try {
+			long length = channel.size();
+			// check an existing file before mapping anything, since mapping the header
+			// would make a short file longer.
+			if (length != 0) {
+				checkHeader(file, channel, length, codec);
+			}
+			MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+			if (length == 0) {
+				header.putInt(MAGIC_AT, MAGIC);
+				header.putInt(VERSION_AT, VERSION);
+				header.putInt(WIDTH_AT, codec.width());
+				header.putInt(PER_SEGMENT_AT, recordsPerSegment);
+				header.putLong(SIZE_AT, 0);
+			}
+			return new MappedP6List<>(channel, header, codec);
+		} catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Read the header of an existing file with a plain read, and make sure it is
+	 * a list of records of this width that is as long as it says.
+	 */
+	private static void checkHeader(Path file, FileChannel channel, long length, RecordCodec<?> codec)
+			throws IOException {
+		if (length < HEADER_SIZE) {
+			throw new IOException("not a MappedP6List file: " + file);
+		}
+		ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+		while (header.hasRemaining()) {
+			if (channel.read(header, header.position()) < 0) {
+				throw new IOException("not a MappedP6List file: " + file);
+			}
+		}
+		if (header.getInt(MAGIC_AT) != MAGIC || header.getInt(VERSION_AT) != VERSION) {
+			throw new IOException("not a MappedP6List file: " + file);
+		}
+		if (header.getInt(WIDTH_AT) != codec.width()) {
+			throw new IOException(
+					"file has records of " + header.getInt(WIDTH_AT) + " bytes, codec wants " + codec.width());
+		}
+		int perSegment = header.getInt(PER_SEGMENT_AT);
+		long stored = header.getLong(SIZE_AT);
+		if (perSegment < 1 || stored < 0 || stored > Integer.MAX_VALUE) {
+			throw new IOException("bad header in " + file);
+		}
+		long segmentsNeeded = (stored + perSegment - 1) / perSegment;
+		if (length < HEADER_SIZE + segmentsNeeded * perSegment * codec.width()) {
+			throw new IOException("file is shorter than its header says: " + file);
+		}
+	}
+
+	private MappedP6List(FileChannel channel, MappedByteBuffer header, RecordCodec<T> codec) {
+		super(codec, header.getInt(PER_SEGMENT_AT));
+		this.channel = channel;
+		this.header = header;
+		// map the segments we already have; nothing is read until asked for.
+		int count = (int) header.getLong(SIZE_AT);
+		while (segments.size() * (long) recordsPerSegment < count) {
+			addSegment();
+		}
+		this.size = count;
+	}
+
+	@Override
+	protected ByteBuffer newSegment(int number) {
+		long bytes = (long) recordsPerSegment * width;
+		try {
+			// mapping past the end of the file makes it longer.
+			return channel.map(FileChannel.MapMode.READ_WRITE, HEADER_SIZE + number * bytes, bytes);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Write every change so far to the disk, and wait until it is there.
+	 */
+	public void force() {
+		checkOpen();
+		sync();
+	}
+
+	/**
+	 * Force the segments, and only then write the size into the header and force
+	 * that. The header is not touched between calls, so after a crash the file
+	 * has the size from the last force() or close(); records changed since then
+	 * may hold either their old or their new bytes.
+	 */
+	private void sync() {
+		for (int i = 0; i < segments.size(); i++) {
+			((MappedByteBuffer) segments.getIndex(i)).force();
+		}
+		header.putLong(SIZE_AT, size);
+		header.force();
+	}
+
+	/**
+	 * Force everything to the disk, then unmap the file and close it.
+	 */
+	@Override
+	protected void releaseSegments() {
+		sync();
+		for (int i = 0; i < segments.size(); i++) {
+			DirectBuffers.free(segments.getIndex(i));
+		}
+		DirectBuffers.free(header);
+		try {
+			channel.close();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
@@ -0,0 +1,62 @@
+package edu.smith.cs.csc212.p6;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A list of fixed-width records stored outside of the Java heap, in direct
+ * ByteBuffers. The garbage collector only sees a handful of segment buffers no
+ * matter how many items there are, so a list of millions of records does not
+ * make GC pauses any longer. Items are encoded by a {@link RecordCodec} on the
+ * way in and decoded into new objects on the way out.
+ *
+ * The list grows one segment at a time and never copies the records it
+ * already has. Call {@link #close()} when you are done to free the memory
+ * right away (try-with-resources works).
+ *
+ * @param <T> - the type of item stored in the list.
+ */
+public class OffHeapList<T> extends SegmentedRecordList<T> {
+	/**
+	 * 64K records per segment, so a segment is 64K times the record width in
+	 * bytes: 1MB of 16 byte records, 256KB of ints.
+	 */
+	public static final int DEFAULT_RECORDS_PER_SEGMENT = 64 * 1024;
+
+	/**
+	 * @param codec - how to turn items into bytes.
+	 */
+	public OffHeapList(RecordCodec<T> codec) {
+		this(codec, DEFAULT_RECORDS_PER_SEGMENT);
+	}
+
+	/**
+	 * @param codec             - how to turn items into bytes.
+	 * @param recordsPerSegment - how many records to allocate at a time.
+	 */
+	public OffHeapList(RecordCodec<T> codec, int recordsPerSegment) {
+		super(codec, recordsPerSegment);
+	}
+
+	@Override
+	protected ByteBuffer newSegment(int number) {
+		return ByteBuffer.allocateDirect(recordsPerSegment * width);
+	}
+
+	/**
+	 * Free every segment. If the JVM does not let us free them early, the garbage
+	 * collector still frees them once this list is gone.
+	 */
+	@Override
+	protected void releaseSegments() {
+		for (int i = 0; i < segments.size(); i++) {
+			DirectBuffers.free(segments.getIndex(i));
+		}
+	}
+
+	/**
+	 * @return how many bytes of off-heap memory this list holds on to.
+	 */
+	public long bytesAllocated() {
+		return (long) segments.size() * recordsPerSegment * width;
+	}
+}
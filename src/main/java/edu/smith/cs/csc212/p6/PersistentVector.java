@@ -0,0 +1,295 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.Arrays;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+/**
+ * A list that never changes. "Changing" it gives you a new version and leaves
+ * the old one as it was, so keeping old versions around (for undo, or for
+ * other threads to read) is free: a snapshot is just a reference.
+ *
+ * The items live in the leaves of a tree where every node has 32 children, so
+ * a vector of a million items is only 4 levels deep. A new version copies only
+ * the nodes on the path to the item that changed and shares every other node
+ * with the old version. The last few items are kept in a separate "tail"
+ * array, so addBack and removeBack usually only copy that.
+ *
+ * getIndex, setIndex, addBack and removeBack are O(log32 n), which is at most 7
+ * steps for any size an int can count.
+ *
+ * @param <T> - the type of item stored in the list.
+ */
+public final class PersistentVector<T> {
+	private static final int BITS = 5;
+	private static final int WIDTH = 1 << BITS;
+	private static final int MASK = WIDTH - 1;
+	private static final PersistentVector<Object> EMPTY = new PersistentVector<>(0, BITS, new Object[WIDTH],
+			new Object[0]);
+
+	private final int size;
+	/**
+	 * How far to shift an index to find its child in the root; BITS times the
+	 * number of levels above the leaves.
+	 */
+	private final int shift;
+	/**
+	 * Every item before the tail. Inner nodes and leaves are Object[WIDTH].
+	 */
+	private final Object[] root;
+	/**
+	 * The last 1 to 32 items, or none in an empty vector. Exactly as long as it
+	 * needs to be.
+	 */
+	private final Object[] tail;
+
+	private PersistentVector(int size, int shift, Object[] root, Object[] tail) {
+		this.size = size;
+		this.shift = shift;
+		this.root = root;
+		this.tail = tail;
+	}
+
+	/**
+	 * @return the vector with nothing in it.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> PersistentVector<T> empty() {
+		return (PersistentVector<T>) EMPTY;
+	}
+
+	/**
+	 * Get the item at an index. O(log32 n)
+	 *
+	 * @param index - a number from 0 to size, excluding size.
+	 * @return the item there.
+	 */
+	@SuppressWarnings("unchecked")
+	public T getIndex(int index) {
+		checkIndex(index);
+		return (T) leafFor(index)[index & MASK];
+	}
+
+	// O(log32 n), it walks down to the first leaf like getIndex(0)
+	public T getFront() {
+		checkNotEmpty();
+		return getIndex(0);
+	}
+
+	// O(1)
+	@SuppressWarnings("unchecked")
+	public T getBack() {
+		checkNotEmpty();
+		return (T) tail[tail.length - 1];
+	}
+
+	// O(1)
+	public int size() {
+		return size;
+	}
+
+	// O(1)
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * A new version with an item added at the end. This one does not change.
+	 * O(log32 n), and usually just a copy of the tail.
+	 *
+	 * @param item - the item to add.
+	 * @return the new version.
+	 */
+	public PersistentVector<T> addBack(T item) {
+		if (size - tailOffset() < WIDTH) {
+			// room in the tail.
+			Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+			newTail[tail.length] = item;
+			return new PersistentVector<>(size + 1, shift, root, newTail);
+		}
+		// the tail is full: it becomes a leaf of the tree, and the item starts a new
+		// tail.
+		Object[] newRoot;
+		int newShift = shift;
+		if ((size >>> BITS) > (1 << shift)) {
+			// the tree is full too, so it gets one level taller.
+			newRoot = new Object[WIDTH];
+			newRoot[0] = root;
+			newRoot[1] = newPath(shift, tail);
+			newShift += BITS;
+		} else {
+			newRoot = pushTail(shift, root, tail);
+		}
+		return new PersistentVector<>(size + 1, newShift, newRoot, new Object[] { item });
+	}
+
+	/**
+	 * A new version with a different item at an index. This one does not change.
+	 * O(log32 n)
+	 *
+	 * @param index - a number from 0 to size, excluding size.
+	 * @param item  - the item to put there.
+	 * @return the new version.
+	 */
+	public PersistentVector<T> setIndex(int index, T item) {
+		checkIndex(index);
+		if (index >= tailOffset()) {
+			Object[] newTail = tail.clone();
+			newTail[index & MASK] = item;
+			return new PersistentVector<>(size, shift, root, newTail);
+		}
+		return new PersistentVector<>(size, shift, setInNode(shift, root, index, item), tail);
+	}
+
+	/**
+	 * A new version without the last item. This one does not change. O(log32 n),
+	 * and usually just a copy of the tail.
+	 *
+	 * @return the new version.
+	 */
+	public PersistentVector<T> removeBack() {
+		checkNotEmpty();
+		if (size == 1) {
+			return empty();
+		}
+		if (size - tailOffset() > 1) {
+			return new PersistentVector<>(size - 1, shift, root, Arrays.copyOf(tail, tail.length - 1));
+		}
+		// the tail would be empty, so the last leaf of the tree becomes the tail.
+		Object[] newTail = leafFor(size - 2);
+		Object[] newRoot = popTail(shift, root);
+		int newShift = shift;
+		if (newRoot == null) {
+			newRoot = new Object[WIDTH];
+		}
+		if (shift > BITS && newRoot[1] == null) {
+			// only one child left at the top, so the tree gets one level shorter.
+			newRoot = (Object[]) newRoot[0];
+			newShift -= BITS;
+		}
+		return new PersistentVector<>(size - 1, newShift, newRoot, newTail);
+	}
+
+	/**
+	 * Copy this version into a GrowableList you can change. O(n)
+	 *
+	 * @return a new list with the same items.
+	 */
+	public GrowableList<T> toGrowableList() {
+		GrowableList<T> output = new GrowableList<>(size);
+		for (int start = 0; start < size; start += WIDTH) {
+			Object[] leaf = leafFor(start);
+			for (int i = 0; i < leaf.length && start + i < size; i++) {
+				@SuppressWarnings("unchecked")
+				T item = (T) leaf[i];
+				output.addBack(item);
+			}
+		}
+		return output;
+	}
+
+	/**
+	 * @return the index of the first item in the tail.
+	 */
+	private int tailOffset() {
+		if (size < WIDTH) {
+			return 0;
+		}
+		return ((size - 1) >>> BITS) << BITS;
+	}
+
+	/**
+	 * Find the leaf (or the tail) that holds an index. O(log32 n)
+	 */
+	private Object[] leafFor(int index) {
+		if (index >= tailOffset()) {
+			return tail;
+		}
+		Object[] node = root;
+		for (int level = shift; level > 0; level -= BITS) {
+			node = (Object[]) node[(index >>> level) & MASK];
+		}
+		return node;
+	}
+
+	/**
+	 * Copy the path from {@code parent} down to where the next leaf goes, and put
+	 * {@code leaf} there.
+	 */
+	private Object[] pushTail(int level, Object[] parent, Object[] leaf) {
+		int child = ((size - 1) >>> level) & MASK;
+		Object[] copy = parent.clone();
+		if (level == BITS) {
+			copy[child] = leaf;
+		} else if (parent[child] != null) {
+			copy[child] = pushTail(level - BITS, (Object[]) parent[child], leaf);
+		} else {
+			copy[child] = newPath(level - BITS, leaf);
+		}
+		return copy;
+	}
+
+	/**
+	 * Make a chain of new nodes, each one the first child of the one above, down
+	 * to {@code leaf}.
+	 */
+	private static Object[] newPath(int level, Object[] leaf) {
+		if (level == 0) {
+			return leaf;
+		}
+		Object[] node = new Object[WIDTH];
+		node[0] = newPath(level - BITS, leaf);
+		return node;
+	}
+
+	/**
+	 * Copy the path from {@code node} down to index, and change the item there.
+	 */
+	private static Object[] setInNode(int level, Object[] node, int index, Object item) {
+		Object[] copy = node.clone();
+		if (level == 0) {
+			copy[index & MASK] = item;
+		} else {
+			int child = (index >>> level) & MASK;
+			copy[child] = setInNode(level - BITS, (Object[]) node[child], index, item);
+		}
+		return copy;
+	}
+
+	/**
+	 * Copy the path from {@code node} down to the last leaf, without that leaf.
+	 *
+	 * @return the new node, or null if it would have no children at all.
+	 */
+	private Object[] popTail(int level, Object[] node) {
+		int child = ((size - 2) >>> level) & MASK;
+		if (level > BITS) {
+			Object[] newChild = popTail(level - BITS, (Object[]) node[child]);
+			if (newChild == null && child == 0) {
+				return null;
+			}
+			Object[] copy = node.clone();
+			copy[child] = newChild;
+			return copy;
+		} else if (child == 0) {
+			return null;
+		} else {
+			Object[] copy = node.clone();
+			copy[child] = null;
+			return copy;
+		}
+	}
+
+	private void checkNotEmpty() {
+		if (size == 0) {
+			throw new EmptyListError();
+		}
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= size) {
+			throw new BadIndexError();
+		}
+	}
+}
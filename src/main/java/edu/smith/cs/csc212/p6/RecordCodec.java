@@ -0,0 +1,51 @@
+package edu.smith.cs.csc212.p6;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Turns items into fixed-width records of bytes and back, so that lists like
+ * {@link OffHeapList} and {@link MappedP6List} can store them outside of the
+ * Java heap.
+ *
+ * For example, a pair of longs is a 16 byte record:
+ *
+ * <pre>
+ * public int width() { return 16; }
+ * public void write(ByteBuffer out, int offset, Pair p) {
+ *   out.putLong(offset, p.first);
+ *   out.putLong(offset + 8, p.second);
+ * }
+ * public Pair read(ByteBuffer in, int offset) {
+ *   return new Pair(in.getLong(offset), in.getLong(offset + 8));
+ * }
+ * </pre>
+ *
+ * Only use the absolute get and put methods of the buffer; do not change its
+ * position or limit.
+ *
+ * @param <T> the type of item to encode.
+ */
+public interface RecordCodec<T> {
+	/**
+	 * @return how many bytes every record takes, at least 1.
+	 */
+	public int width();
+
+	/**
+	 * Write one item as width() bytes.
+	 *
+	 * @param out    - the buffer to write into.
+	 * @param offset - where the record starts in it.
+	 * @param item   - what to write.
+	 */
+	public void write(ByteBuffer out, int offset, T item);
+
+	/**
+	 * Read back one item that write() wrote.
+	 *
+	 * @param in     - the buffer to read from.
+	 * @param offset - where the record starts in it.
+	 * @return a new item equal to the one that was written.
+	 */
+	public T read(ByteBuffer in, int offset);
+}
@@ -0,0 +1,400 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+import edu.smith.cs.csc212.p6.errors.RanOutOfSpaceError;
+
+/**
+ * A bounded queue that threads can share without a lock. The items live in a
+ * preallocated circular {@code Object[]}, like {@link FixedSizeList}, and the
+ * threads coordinate through ever-increasing sequence counters instead of a
+ * lock, in the style of the LMAX Disruptor ring buffer.
+ *
+ * There are two modes:
+ * <ul>
+ * <li>{@link Mode#SPSC}: exactly one thread offers and exactly one thread
+ * polls. Each side only reads the other's counter when it has to, and
+ * publishes with an ordered store instead of a compare-and-set.</li>
+ * <li>{@link Mode#MPMC}: any number of threads on each side. Every slot has its
+ * own sequence number that says whose turn it is, and the counters are claimed
+ * with compare-and-set.</li>
+ * </ul>
+ *
+ * The capacity is rounded up to a power of two so that finding a slot is a
+ * mask instead of a division. null items are not allowed, because poll()
+ * returns null when the queue is empty.
+ *
+ * @param <T> - the type of item stored in the queue.
+ */
+public class RingBufferQueue<T> {
+	/**
+	 * Who is allowed to use the queue at the same time?
+	 */
+	public enum Mode {
+		/**
+		 * One producer thread and one consumer thread.
+		 */
+		SPSC,
+		/**
+		 * Any number of producer and consumer threads.
+		 */
+		MPMC
+	}
+
+	private final Object[] array;
+	private final int mask;
+	private final Mode mode;
+	/**
+	 * MPMC only: slot i is ready for the producer of position p when it holds p,
+	 * and ready for the consumer of position p when it holds p + 1.
+	 */
+	private final AtomicLongArray sequences;
+	/**
+	 * The next position to write. Its cached value is the producer's last look
+	 * at {@link #head}.
+	 */
+	private final Sequence tail;
+	/**
+	 * The next position to read. Its cached value is the consumer's last look at
+	 * {@link #tail}.
+	 */
+	private final Sequence head;
+
+	/**
+	 * Make an empty queue.
+	 *
+	 * @param capacity - the least number of items it should hold; rounded up to a
+	 *                 power of two.
+	 * @param mode     - how many threads may use each side.
+	 */
+	public RingBufferQueue(int capacity, Mode mode) {
+		if (capacity < 1 || capacity > (1 << 30)) {
+			throw new IllegalArgumentException("capacity must be from 1 to 2^30: " + capacity);
+		}
+		int length = Integer.highestOneBit(capacity);
+		if (length < capacity) {
+			length *= 2;
+		}
+		this.array = new Object[length];
+		this.mask = length - 1;
+		this.mode = mode;
+		this.tail = new Sequence();
+		this.head = new Sequence();
+		if (mode == Mode.MPMC) {
+			this.sequences = new AtomicLongArray(length);
+			for (int i = 0; i < length; i++) {
+				sequences.set(i, i);
+			}
+		} else {
+			this.sequences = null;
+		}
+	}
+
+	/**
+	 * Add an item to the back of the queue if there is room. O(1)
+	 *
+	 * @param item - not null.
+	 * @return false if the queue was full.
+	 */
+	public boolean offer(T item) {
+		checkNotNull(item);
+		if (mode == Mode.SPSC) {
+			long position = tail.get();
+			if (position - tail.cached >= array.length) {
+				tail.cached = head.get();
+				if (position - tail.cached >= array.length) {
+					return false;
+				}
+			}
+			array[(int) position & mask] = item;
+			tail.lazySet(position + 1);
+			return true;
+		}
+
+		long position = tail.get();
+		while (true) {
+			long turn = sequences.get((int) position & mask) - position;
+			if (turn == 0) {
+				if (tail.compareAndSet(position, position + 1)) {
+					break;
+				}
+				position = tail.get();
+			} else if (turn < 0) {
+				// the consumer from one lap ago has not taken this slot yet.
+				return false;
+			} else {
+				// another producer got here first.
+				position = tail.get();
+			}
+		}
+		int slot = (int) position & mask;
+		array[slot] = item;
+		sequences.lazySet(slot, position + 1);
+		return true;
+	}
+
+	/**
+	 * Take the item at the front of the queue. O(1)
+	 *
+	 * @return the item, or null if the queue was empty.
+	 */
+	@SuppressWarnings("unchecked")
+	public T poll() {
+		if (mode == Mode.SPSC) {
+			long position = head.get();
+			if (position >= head.cached) {
+				head.cached = tail.get();
+				if (position >= head.cached) {
+					return null;
+				}
+			}
+			int slot = (int) position & mask;
+			T item = (T) array[slot];
+			array[slot] = null;
+			head.lazySet(position + 1);
+			return item;
+		}
+
+		long position = head.get();
+		while (true) {
+			long turn = sequences.get((int) position & mask) - (position + 1);
+			if (turn == 0) {
+				if (head.compareAndSet(position, position + 1)) {
+					break;
+				}
+				position = head.get();
+			} else if (turn < 0) {
+				// nobody has finished writing this position yet.
+				return null;
+			} else {
+				// another consumer got here first.
+				position = head.get();
+			}
+		}
+		int slot = (int) position & mask;
+		T item = (T) array[slot];
+		array[slot] = null;
+		sequences.lazySet(slot, position + array.length);
+		return item;
+	}
+
+	/**
+	 * Add as many items as fit from part of an array, claiming all of their slots
+	 * at once. In SPSC mode they are also published with a single store. In MPMC
+	 * mode we only claim slots that consumers have already given back, so we
+	 * never wait for another thread. O(k)
+	 *
+	 * @param items - where to take the items from; none of them may be null.
+	 * @param from  - the first index to take.
+	 * @param to    - one past the last index to take.
+	 * @return how many items were added; they are always items[from] onward.
+	 */
+	public int offerAll(T[] items, int from, int to) {
+		for (int i = from; i < to; i++) {
+			checkNotNull(items[i]);
+		}
+		if (mode == Mode.SPSC) {
+			long position = tail.get();
+			tail.cached = head.get();
+			int count = (int) Math.min(to - from, array.length - (position - tail.cached));
+			if (count <= 0) {
+				return 0;
+			}
+			for (int i = 0; i < count; i++) {
+				array[(int) (position + i) & mask] = items[from + i];
+			}
+			tail.lazySet(position + count);
+			return count;
+		}
+
+		long position;
+		int count;
+		do {
+			position = tail.get();
+			// the same check as offer, slot by slot: is it our turn to write here?
+			count = 0;
+			while (count < to - from && sequences.get((int) (position + count) & mask) == position + count) {
+				count++;
+			}
+			if (count == 0) {
+				return 0;
+			}
+		} while (!tail.compareAndSet(position, position + count));
+
+		for (int i = 0; i < count; i++) {
+			long at = position + i;
+			int slot = (int) at & mask;
+			array[slot] = items[from + i];
+			sequences.lazySet(slot, at + 1);
+		}
+		return count;
+	}
+
+	/**
+	 * Move items from the front of this queue to the back of a list. In SPSC mode
+	 * they are released with a single store. In MPMC mode we only take items that
+	 * producers have finished writing, so we never wait for another thread; the
+	 * items go into the list first, and are taken from the queue all at once
+	 * afterwards. If another consumer took them in the meantime, we take them
+	 * back out of the list and try again. O(k) plus the cost of addBack.
+	 *
+	 * Nothing is ever lost. If the list runs out of space we stop there; if it
+	 * throws anything else, the items it took are out of the queue and the rest
+	 * are still in it, in order. No other thread may change the list during the
+	 * call.
+	 *
+	 * @param target - where to put the items.
+	 * @param max    - the most items to move.
+	 * @return how many items were moved.
+	 */
+	@SuppressWarnings("unchecked")
+	public int drainTo(P6List<? super T> target, int max) {
+		if (mode == Mode.SPSC) {
+			long position = head.get();
+			head.cached = tail.get();
+			int count = (int) Math.min(max, head.cached - position);
+			int moved = 0;
+			try {
+				for (; moved < count; moved++) {
+					target.addBack((T) array[(int) (position + moved) & mask]);
+				}
+			} catch (RanOutOfSpaceError full) {
+				// the list took all it could.
+			} finally {
+				release(position, moved);
+				head.lazySet(position + moved);
+			}
+			return moved;
+		}
+
+		while (true) {
+			long position = head.get();
+			// the same check as poll, slot by slot: has this item been written?
+			int ready = 0;
+			while (ready < max && sequences.get((int) (position + ready) & mask) == position + ready + 1) {
+				ready++;
+			}
+			if (ready == 0) {
+				return 0;
+			}
+			int added = 0;
+			boolean ours = false;
+			try {
+				for (; added < ready; added++) {
+					target.addBack((T) array[(int) (position + added) & mask]);
+				}
+			} catch (RanOutOfSpaceError full) {
+				// the list took all it could.
+			} finally {
+				ours = added == 0 || head.compareAndSet(position, position + added);
+				if (ours) {
+					release(position, added);
+				} else {
+					// another consumer took these first, so they are not ours to keep.
+					for (int i = 0; i < added; i++) {
+						target.removeBack();
+					}
+				}
+			}
+			if (ours) {
+				return added;
+			}
+		}
+	}
+
+	/**
+	 * Empty the slots of items that have left the queue, and in MPMC mode hand
+	 * them to the producers of the next lap.
+	 */
+	private void release(long position, int count) {
+		for (int i = 0; i < count; i++) {
+			long at = position + i;
+			int slot = (int) at & mask;
+			array[slot] = null;
+			if (sequences != null) {
+				sequences.lazySet(slot, at + array.length);
+			}
+		}
+	}
+
+	/**
+	 * How many items are in the queue? With other threads running this is only a
+	 * snapshot. O(1)
+	 *
+	 * @return a number from 0 to capacity().
+	 */
+	public int size() {
+		while (true) {
+			long before = head.get();
+			long written = tail.get();
+			// make sure head did not move while we read tail.
+			if (head.get() == before) {
+				return (int) Math.max(0, Math.min(array.length, written - before));
+			}
+		}
+	}
+
+	// O(1)
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	/**
+	 * @return how many items fit, after rounding up to a power of two.
+	 */
+	public int capacity() {
+		return array.length;
+	}
+
+	/**
+	 * @return which threads may use this queue.
+	 */
+	public Mode getMode() {
+		return mode;
+	}
+
+	private static void checkNotNull(Object item) {
+		if (item == null) {
+			throw new NullPointerException("RingBufferQueue does not hold null");
+		}
+	}
+
+	/**
+	 * Seven longs of padding before the counter, so that nothing else shares its
+	 * cache line.
+	 */
+	static class LeftPadding {
+		protected long p1, p2, p3, p4, p5, p6, p7;
+	}
+
+	/**
+	 * The counter itself, plus a cached copy of the other side's counter that
+	 * only the owner of this counter reads and writes.
+	 */
+	static class Value extends LeftPadding {
+		protected volatile long value;
+		protected long cached;
+	}
+
+	/**
+	 * A counter padded on both sides against false sharing.
+	 */
+	static final class Sequence extends Value {
+		private static final AtomicLongFieldUpdater<Value> VALUE = AtomicLongFieldUpdater.newUpdater(Value.class,
+				"value");
+		protected long p9, p10, p11, p12, p13, p14, p15;
+
+		long get() {
+			return value;
+		}
+
+		void lazySet(long next) {
+			VALUE.lazySet(this, next);
+		}
+
+		boolean compareAndSet(long expected, long next) {
+			return VALUE.compareAndSet(this, expected, next);
+		}
+	}
+}
@@ -0,0 +1,301 @@
+package edu.smith.cs.csc212.p6;
+
+import java.nio.ByteBuffer;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.ClosedListError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+/**
+ * The shared part of the lists that keep fixed-width records in ByteBuffers
+ * instead of Java objects. Records live in equal-sized segments; growing adds
+ * another segment and never copies the ones we already have. Subclasses decide
+ * where segments come from and what closing means.
+ *
+ * Like {@link GrowableList}, adding or removing at the back is O(1) and
+ * anywhere else shifts the records after the index. The shift is one bulk copy
+ * per segment it crosses, through views made once per segment, so apart from
+ * one scratch segment made the first time, it does not make any garbage.
+ *
+ * @param <T> - the type of item stored in the list.
+ */
+abstract class SegmentedRecordList<T> implements P6List<T>, AutoCloseable {
+	protected final RecordCodec<T> codec;
+	protected final int width;
+	protected final int recordsPerSegment;
+	/**
+	 * The segments, in order; record i is in segment i / recordsPerSegment.
+	 */
+	protected GrowableList<ByteBuffer> segments;
+	/**
+	 * Two views of each segment, with their own position and limit, to copy
+	 * between when shifting records.
+	 */
+	private GrowableList<ByteBuffer> sourceViews;
+	private GrowableList<ByteBuffer> destViews;
+	/**
+	 * One segment's worth of bytes to copy overlapping runs through, made the
+	 * first time we need it.
+	 */
+	private ByteBuffer scratch;
+	protected int size;
+	private boolean closed;
+
+	/**
+	 * @param codec             - how to turn items into bytes.
+	 * @param recordsPerSegment - how many records each segment holds.
+	 */
+	protected SegmentedRecordList(RecordCodec<T> codec, int recordsPerSegment) {
+		if (recordsPerSegment < 1 || (long) recordsPerSegment * codec.width() > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("bad segment size: " + recordsPerSegment);
+		}
+		this.codec = codec;
+		this.width = codec.width();
+		this.recordsPerSegment = recordsPerSegment;
+		this.segments = new GrowableList<>();
+		this.sourceViews = new GrowableList<>();
+		this.destViews = new GrowableList<>();
+		this.size = 0;
+		this.closed = false;
+	}
+
+	/**
+	 * Make (or find) the storage for another segment.
+	 *
+	 * @param number - which segment this is, counting from 0.
+	 * @return a buffer of recordsPerSegment * width bytes.
+	 */
+	protected abstract ByteBuffer newSegment(int number);
+
+	/**
+	 * Give back the memory of every segment. Called once, by close().
+	 */
+	protected abstract void releaseSegments();
+
+	/**
+	 * Add one more segment after the last one.
+	 */
+	protected void addSegment() {
+		ByteBuffer segment = newSegment(segments.size());
+		segments.addBack(segment);
+		sourceViews.addBack(segment.slice());
+		destViews.addBack(segment.slice());
+	}
+
+	// O(n)
+	@Override
+	public T removeFront() {
+		return removeIndex(0);
+	}
+
+	// O(1)
+	@Override
+	public T removeBack() {
+		checkNotEmpty();
+		return removeIndex(size - 1);
+	}
+
+	// O(n - index)
+	@Override
+	public T removeIndex(int index) {
+		checkNotEmpty();
+		T removed = getIndex(index);
+		moveRecords(index + 1, index, size - index - 1);
+		size--;
+		return removed;
+	}
+
+	// O(n)
+	@Override
+	public void addFront(T item) {
+		addIndex(item, 0);
+	}
+
+	// O(1), plus a new segment now and then
+	@Override
+	public void addBack(T item) {
+		addIndex(item, size);
+	}
+
+	// O(n - index), plus a new segment now and then
+	@Override
+	public void addIndex(T item, int index) {
+		checkOpen();
+		if (index < 0 || index > size) {
+			throw new BadIndexError();
+		}
+		if (size == segments.size() * recordsPerSegment) {
+			addSegment();
+		}
+		moveRecords(index, index + 1, size - index);
+		write(index, item);
+		size++;
+	}
+
+	/**
+	 * Replace the item at an index. O(1)
+	 *
+	 * @param index - a number from 0 to size, excluding size.
+	 * @param item  - the new item.
+	 */
+	public void setIndex(int index, T item) {
+		checkOpen();
+		if (index < 0 || index >= size) {
+			throw new BadIndexError();
+		}
+		write(index, item);
+	}
+
+	// O(1)
+	@Override
+	public T getFront() {
+		checkNotEmpty();
+		return getIndex(0);
+	}
+
+	// O(1)
+	@Override
+	public T getBack() {
+		checkNotEmpty();
+		return getIndex(size - 1);
+	}
+
+	// O(1)
+	@Override
+	public T getIndex(int index) {
+		checkOpen();
+		if (index < 0 || index >= size) {
+			throw new BadIndexError();
+		}
+		return codec.read(segmentOf(index), offsetOf(index));
+	}
+
+	// O(1)
+	@Override
+	public int size() {
+		return size;
+	}
+
+	// O(1)
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Free the storage of this list. Using it afterwards throws
+	 * {@link ClosedListError}; closing twice does nothing.
+	 */
+	@Override
+	public void close() {
+		if (!closed) {
+			closed = true;
+			releaseSegments();
+			segments = new GrowableList<>();
+			sourceViews = new GrowableList<>();
+			destViews = new GrowableList<>();
+			scratch = null;
+			size = 0;
+		}
+	}
+
+	/**
+	 * @return true once close() has been called.
+	 */
+	public boolean isClosed() {
+		return closed;
+	}
+
+	protected void checkOpen() {
+		if (closed) {
+			throw new ClosedListError();
+		}
+	}
+
+	private void checkNotEmpty() {
+		checkOpen();
+		if (size == 0) {
+			throw new EmptyListError();
+		}
+	}
+
+	private ByteBuffer segmentOf(int index) {
+		return segments.getIndex(index / recordsPerSegment);
+	}
+
+	private int offsetOf(int index) {
+		return (index % recordsPerSegment) * width;
+	}
+
+	private void write(int index, T item) {
+		codec.write(segmentOf(index), offsetOf(index), item);
+	}
+
+	/**
+	 * Move count records from one index to another, like System.arraycopy: the
+	 * two ranges may overlap. Each step copies the longest run that stays inside
+	 * one source segment and one destination segment, so this is O(count) bytes
+	 * but only O(count / recordsPerSegment + 1) copies.
+	 */
+	private void moveRecords(int from, int to, int count) {
+		if (to > from) {
+			// moving right: copy the last run first, so we never overwrite records we
+			// still have to move.
+			int left = count;
+			while (left > 0) {
+				int run = Math.min(left, Math.min(roomBefore(from + left), roomBefore(to + left)));
+				left -= run;
+				copyRun(from + left, to + left, run);
+			}
+		} else {
+			int done = 0;
+			while (done < count) {
+				int run = Math.min(count - done, Math.min(roomAfter(from + done), roomAfter(to + done)));
+				copyRun(from + done, to + done, run);
+				done += run;
+			}
+		}
+	}
+
+	/**
+	 * @return how many records from this index to the end of its segment.
+	 */
+	private int roomAfter(int index) {
+		return recordsPerSegment - index % recordsPerSegment;
+	}
+
+	/**
+	 * @return how many records from the start of a segment up to this index,
+	 *         which is not included.
+	 */
+	private int roomBefore(int end) {
+		return (end - 1) % recordsPerSegment + 1;
+	}
+
+	/**
+	 * Copy a run of records that does not cross a segment boundary on either
+	 * side, with one bulk put. Java 8 does not promise what put does when the
+	 * source and destination overlap, so a run that overlaps itself goes through
+	 * a scratch buffer instead, with one bulk copy each way.
+	 */
+	private void copyRun(int from, int to, int count) {
+		ByteBuffer source = sourceViews.getIndex(from / recordsPerSegment);
+		source.clear();
+		source.position(offsetOf(from));
+		source.limit(offsetOf(from) + count * width);
+		ByteBuffer dest = destViews.getIndex(to / recordsPerSegment);
+		dest.clear();
+		dest.position(offsetOf(to));
+		if (from / recordsPerSegment == to / recordsPerSegment && Math.abs(to - from) < count) {
+			if (scratch == null) {
+				scratch = ByteBuffer.allocate(recordsPerSegment * width);
+			}
+			scratch.clear();
+			scratch.put(source);
+			scratch.flip();
+			dest.put(scratch);
+		} else {
+			dest.put(source);
+		}
+	}
+}
@@ -4,24 +4,49 @@ import java.util.Iterator;
 
 import edu.smith.cs.csc212.p6.errors.BadIndexError;
 import edu.smith.cs.csc212.p6.errors.EmptyListError;
-import edu.smith.cs.csc212.p6.errors.P6NotImplemented;
 
 public class SinglyLinkedList<T> implements P6List<T>, Iterable<T> {
 	/**
 	 * The start of this list. Node is defined at the bottom of this file.
 	 */
 	Node<T> start;
+	/**
+	 * The last node of this list, so that we never have to walk to find it.
+	 */
+	Node<T> end;
+	/**
+	 * How many items are in this list? Kept up to date by every add and remove.
+	 */
+	int size;
+	/**
+	 * The last node that a positional operation walked to. Sequential calls to
+	 * getIndex, addIndex and removeIndex start from here instead of the start.
+	 */
+	private Node<T> finger;
+	/**
+	 * The index of {@link #finger}, only meaningful while finger is not null.
+	 */
+	private int fingerIndex;
 
+	// O(1)
 	@Override
 	public T removeFront() {
 		checkNotEmpty();
 		T before = start.value;
 		start = start.next;
+		size--;
+		// every index just shifted down by one
+		forgetFinger();
+		// if that was the only item, the end is gone too
+		if (start == null) {
+			end = null;
+		}
 		return before;
 	}
 
 	/*
-	 * going through the items with for loop --> O(n)
+	 * O(n) --> we still need the node before the end, and a singly linked list can
+	 * only find it by walking from the start.
 	 */
 	@Override
 	public T removeBack() {
@@ -33,46 +58,36 @@ public class SinglyLinkedList<T> implements P6List<T>, Iterable<T> {
 		}
 
 		// Where we have more than one item
-		else {
-			for (Node<T> current = start; current != null; current = current.next) {
-				if (current.next.next == null) {
-					T remove = current.next.value;
-					current.next = null;
-					return remove;
-				}
-			}
-		}
-		return null;
+		Node<T> beforeEnd = nodeAt(size - 2);
+		T removed = end.value;
+		beforeEnd.next = null;
+		end = beforeEnd;
+		size--;
+		return removed;
 	}
 
 	/*
-	 * O(n) --> we're using for loop again
+	 * O(n) --> one walk to the node before the index
 	 */
 	@Override
 	public T removeIndex(int index) {
 		checkNotEmpty();
+		checkIndex(index, size - 1);
 
 		// if removing the first item
 		if (index == 0) {
 			return this.removeFront();
 		}
 
-		// if removing last item
-		if (index == this.size() - 1) {
-			return this.removeBack();
+		Node<T> previous = nodeAt(index - 1);
+		Node<T> removed = previous.next;
+		previous.next = removed.next;
+		// if we removed the last node, the one before it is the new end
+		if (removed == end) {
+			end = previous;
 		}
-
-		int at = 0;
-
-		for (Node<T> current = start; current != null; current = current.next) {
-			if (at == (index - 1)) {
-				T removed = current.next.value;
-				current.next = current.next.next;
-				return removed;
-			}
-			at++;
-		}
-		throw new BadIndexError();
+		size--;
+		return removed.value;
 	}
 
 	/*
@@ -81,57 +96,49 @@ public class SinglyLinkedList<T> implements P6List<T>, Iterable<T> {
 	@Override
 	public void addFront(T item) {
 		this.start = new Node<T>(item, start);
+		if (end == null) {
+			end = start;
+		}
+		size++;
+		// every index just shifted up by one
+		forgetFinger();
 	}
 
 	/*
-	 * O(n), going through items in the list if list is not empty
+	 * O(1), we always know where the end is
 	 */
 	@Override
 	public void addBack(T item) {
 		if (this.isEmpty()) {
 			addFront(item);
 		} else {
-			for (Node<T> current = start; current != null; current = current.next) {
-				if (current.next == null) {
-					current.next = new Node<T>(item, null);
-					break;
-				}
-			}
+			end.next = new Node<T>(item, null);
+			end = end.next;
+			size++;
 		}
 	}
 
 	/*
-	 * O(n)
+	 * O(n) --> one walk to the node before the index
 	 */
 	@Override
 	public void addIndex(T item, int index) {
-		// if the list is empty
-		if (this.isEmpty() || (index == 0)) {
-			addFront(item);
-		}
-
 		// if the index is out of bounds
-		if (index > (this.size()) || index < 0) {
-			throw new BadIndexError();
-		}
+		checkIndex(index, size);
 
+		// if adding to the front (or to an empty list)
+		if (index == 0) {
+			addFront(item);
+		}
 		// if index of item is after the last item
-		if (index == (this.size())) {
+		else if (index == size) {
 			addBack(item);
 		}
-
 		// if adding somewhere in the middle
 		else {
-			int at = 0;
-
-			for (Node<T> current = start; current != null; current = current.next) {
-				if (at == (index - 1)) {
-					Node<T> C = current.next;
-					current.next = new Node<T>(item, C);
-					break;
-				}
-				at++;
-			}
+			Node<T> previous = nodeAt(index - 1);
+			previous.next = new Node<T>(item, previous.next);
+			size++;
 		}
 	}
 
@@ -144,51 +151,26 @@ public class SinglyLinkedList<T> implements P6List<T>, Iterable<T> {
 		return start.value;
 	}
 
-	// O(n)
+	// O(1)
 	@Override
 	public T getBack() {
 		// if list is empty
 		checkNotEmpty();
-
-		// if we have one item in list
-		if (start.next == null) {
-			return start.value;
-		}
-
-		// every other condition
-		for (Node<T> current = start; current != null; current = current.next) {
-			if (current.next == null) {
-				return current.value;
-			}
-		}
-		throw new EmptyListError();
+		return end.value;
 	}
 
 	// O(n)
 	@Override
 	public T getIndex(int index) {
 		checkNotEmpty();
-
-		int at = 0;
-
-		for (Node<T> current = start; current != null; current = current.next) {
-			if (at == (index)) {
-				T found = current.value;
-				return found;
-			}
-			at++;
-		}
-		throw new BadIndexError();
+		checkIndex(index, size - 1);
+		return nodeAt(index).value;
 	}
 
-	// O(n) --> looping through list
+	// O(1) --> we keep count as we go
 	@Override
 	public int size() {
-		int count = 0;
-		for (Node<T> n = this.start; n != null; n = n.next) {
-			count++;
-		}
-		return count;
+		return size;
 	}
 
 	// O(1)
@@ -206,6 +188,52 @@ public class SinglyLinkedList<T> implements P6List<T>, Iterable<T> {
 		}
 	}
 
+	/**
+	 * Helper method to throw the right error for an index out of bounds. O(1)
+	 * 
+	 * @param index - the index the user asked for.
+	 * @param max   - the largest index that makes sense for this operation.
+	 */
+	private void checkIndex(int index, int max) {
+		if (index < 0 || index > max) {
+			throw new BadIndexError();
+		}
+	}
+
+	/**
+	 * Walk to the node at a position that has already been checked. We start from
+	 * the finger if it is at or before the index, so a loop over increasing
+	 * indices only pays for the distance between calls. O(n), amortized O(1) for
+	 * sequential access.
+	 * 
+	 * Callers only ever change the list after the node they walked to, so the
+	 * finger stays valid for them; addFront and removeFront forget it.
+	 * 
+	 * @param index - a number from 0 to size, excluding size.
+	 * @return the node at that position.
+	 */
+	private Node<T> nodeAt(int index) {
+		Node<T> current = start;
+		int at = 0;
+		if (finger != null && fingerIndex <= index) {
+			current = finger;
+			at = fingerIndex;
+		}
+		for (; at < index; at++) {
+			current = current.next;
+		}
+		finger = current;
+		fingerIndex = index;
+		return current;
+	}
+
+	/**
+	 * Drop the cached position because the indices of the list have moved. O(1)
+	 */
+	private void forgetFinger() {
+		finger = null;
+	}
+
 	/**
 	 * The node on any linked list should not be exposed. Static means we don't need
 	 * a "this" of SinglyLinkedList to make a node.
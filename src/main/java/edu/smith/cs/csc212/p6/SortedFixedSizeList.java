@@ -0,0 +1,186 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.Comparator;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+import edu.smith.cs.csc212.p6.errors.RanOutOfSpaceError;
+
+/**
+ * A {@link FixedSizeList} that is always kept in order by a comparator, so that
+ * looking things up is a binary search instead of a linear scan. Items only go
+ * in through {@link #insertSorted}, which is why this is not a P6List: addFront
+ * and friends would let you break the order.
+ *
+ * Probes ({@link #find}, {@link #lowerBound}, {@link #upperBound}) are
+ * O(log n). An insert is one binary search and one block shift.
+ *
+ * @param <T> - the type of item stored in the list.
+ */
+public class SortedFixedSizeList<T> {
+	private FixedSizeList<T> items;
+	private Comparator<? super T> order;
+
+	/**
+	 * Make an empty sorted list.
+	 *
+	 * @param maximumSize - how many items it can ever hold.
+	 * @param order       - how to sort them; Comparator.naturalOrder() works for
+	 *                    Comparable items.
+	 */
+	public SortedFixedSizeList(int maximumSize, Comparator<? super T> order) {
+		this.items = new FixedSizeList<>(maximumSize);
+		this.order = order;
+	}
+
+	/**
+	 * Put an item where it belongs. Equal items stay in the order they were
+	 * inserted. O(log n) to search plus one block shift.
+	 *
+	 * @param item - the item to add.
+	 * @return the index it ended up at.
+	 * @throws RanOutOfSpaceError if the list is full.
+	 */
+	public int insertSorted(T item) {
+		int index = upperBound(item);
+		items.addIndex(item, index);
+		return index;
+	}
+
+	/**
+	 * Binary search for an item. O(log n)
+	 *
+	 * @param key - what to look for.
+	 * @return the index of the first item equal to key by the comparator, or -1.
+	 */
+	public int find(T key) {
+		int index = lowerBound(key);
+		if (index < items.size() && order.compare(items.getIndex(index), key) == 0) {
+			return index;
+		}
+		// this represents not found
+		return -1;
+	}
+
+	/**
+	 * Binary search for where the items that are at least {@code key} start.
+	 * O(log n)
+	 *
+	 * @param key - what to compare against.
+	 * @return the first index whose item is not less than key, or size().
+	 */
+	public int lowerBound(T key) {
+		int low = 0;
+		int high = items.size();
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (order.compare(items.getIndex(middle), key) < 0) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Binary search for where the items that are greater than {@code key} start.
+	 * O(log n)
+	 *
+	 * @param key - what to compare against.
+	 * @return the first index whose item is greater than key, or size().
+	 */
+	public int upperBound(T key) {
+		int low = 0;
+		int high = items.size();
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (order.compare(items.getIndex(middle), key) <= 0) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Copy out the items from {@code low} (included) to {@code high} (excluded).
+	 * O(log n + k)
+	 *
+	 * @param low  - the smallest item to include.
+	 * @param high - the first item too big to include.
+	 * @return a new list holding exactly those items, in order.
+	 */
+	public FixedSizeList<T> range(T low, T high) {
+		int from = lowerBound(low);
+		int to = Math.max(from, lowerBound(high));
+		FixedSizeList<T> found = new FixedSizeList<>(to - from);
+		for (int i = from; i < to; i++) {
+			found.addBack(items.getIndex(i));
+		}
+		return found;
+	}
+
+	/**
+	 * Delete the first item equal to {@code key}, if there is one. O(log n) plus
+	 * one block shift.
+	 *
+	 * @param key - what to delete.
+	 * @return true if something was deleted.
+	 */
+	public boolean remove(T key) {
+		int index = find(key);
+		if (index < 0) {
+			return false;
+		}
+		items.removeIndex(index);
+		return true;
+	}
+
+	/**
+	 * @see P6List#removeIndex(int)
+	 */
+	public T removeIndex(int index) {
+		return items.removeIndex(index);
+	}
+
+	/**
+	 * @see FixedSizeList#removeRange(int, int)
+	 */
+	public void removeRange(int from, int to) {
+		items.removeRange(from, to);
+	}
+
+	/**
+	 * @throws BadIndexError if the index does not exist.
+	 * @see P6List#getIndex(int)
+	 */
+	public T getIndex(int index) {
+		return items.getIndex(index);
+	}
+
+	/**
+	 * @return the smallest item.
+	 * @throws EmptyListError if the list is empty.
+	 */
+	public T getFront() {
+		return items.getFront();
+	}
+
+	/**
+	 * @return the largest item.
+	 * @throws EmptyListError if the list is empty.
+	 */
+	public T getBack() {
+		return items.getBack();
+	}
+
+	public int size() {
+		return items.size();
+	}
+
+	public boolean isEmpty() {
+		return items.isEmpty();
+	}
+}
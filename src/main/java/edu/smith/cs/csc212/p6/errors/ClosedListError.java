@@ -0,0 +1,12 @@
+package edu.smith.cs.csc212.p6.errors;
+
+/**
+ * This is an error for lists that hold memory outside of the Java heap, when
+ * they are used after {@code close()}.
+ */
+@SuppressWarnings("serial")
+public class ClosedListError extends RuntimeException {
+	public ClosedListError() {
+		super("ClosedListError");
+	}
+}
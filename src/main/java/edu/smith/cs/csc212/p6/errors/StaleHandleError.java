@@ -0,0 +1,12 @@
+package edu.smith.cs.csc212.p6.errors;
+
+/**
+ * This is an error for {@link edu.smith.cs.csc212.p6.DoublyLinkedList} when a
+ * handle is used after its item was removed, or on a list it did not come from.
+ */
+@SuppressWarnings("serial")
+public class StaleHandleError extends RuntimeException {
+	public StaleHandleError() {
+		super("StaleHandleError");
+	}
+}
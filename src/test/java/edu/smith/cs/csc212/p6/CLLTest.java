@@ -8,9 +8,12 @@ import edu.smith.cs.csc212.p6.errors.RanOutOfSpaceError;
 
 import static org.junit.Assert.assertEquals;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.Spliterator;
 
 import org.junit.Assert;
 
@@ -336,4 +339,187 @@ public class CLLTest {
 			}
 		}
 	}
+
+	@Test
+	public void testAddFrontAfterEmptied() {
+		P6List<String> data = makeEmptyList();
+		data.addBack("a");
+		data.removeFront();
+		data.addFront("b");
+		data.addIndex("a", 0);
+		Assert.assertEquals(2, data.size());
+		Assert.assertEquals("a", data.getFront());
+		Assert.assertEquals("b", data.getBack());
+	}
+
+	@Test
+	public void testMixedIndexOps() {
+		ListChecks.checkMixedIndexOps(makeEmptyList(), 42);
+	}
+
+	@Test
+	public void testMergesAfterDeletes() {
+		ChunkyLinkedList<Integer> data = new ChunkyLinkedList<>(16);
+		for (int i = 0; i < 1000; i++) {
+			data.addBack(i);
+		}
+		Assert.assertEquals(63, data.chunkCount());
+		Random rand = new Random(3);
+		for (int i = 0; i < 900; i++) {
+			data.removeIndex(rand.nextInt(data.size()));
+		}
+		// every chunk but the ones at the ends is at least a quarter full.
+		Assert.assertTrue(data.chunkCount() <= 100 / 4 + 2);
+		Assert.assertTrue(data.fillFactor() > 0.25);
+		for (int i = 1; i < data.size(); i++) {
+			Assert.assertTrue(data.getIndex(i - 1) < data.getIndex(i));
+		}
+	}
+
+	@Test
+	public void testSplitsInHalf() {
+		ChunkyLinkedList<Integer> data = new ChunkyLinkedList<>(8);
+		for (int i = 0; i < 8; i++) {
+			data.addBack(i * 2);
+		}
+		Assert.assertEquals(1, data.chunkCount());
+		data.addIndex(5, 3);
+		Assert.assertEquals(2, data.chunkCount());
+		// both halves have room, so more adds in the middle make no new chunks.
+		data.addIndex(7, 5);
+		data.addIndex(11, 8);
+		data.addIndex(13, 10);
+		Assert.assertEquals(2, data.chunkCount());
+		Assert.assertEquals(12.0 / 16, data.fillFactor(), 0.0);
+		int[] expected = { 0, 2, 4, 5, 6, 7, 8, 10, 11, 12, 13, 14 };
+		for (int i = 0; i < expected.length; i++) {
+			Assert.assertEquals(expected[i], (int) data.getIndex(i));
+		}
+	}
+
+	@Test
+	public void testStack() {
+		ChunkyLinkedList<Integer> data = new ChunkyLinkedList<>(64);
+		for (int trial = 0; trial < 3; trial++) {
+			for (int i = 0; i < 100000; i++) {
+				data.addBack(i);
+			}
+			Assert.assertEquals(99999, (int) data.getBack());
+			Assert.assertEquals(50000, (int) data.getIndex(50000));
+			for (int i = 99999; i >= 0; i--) {
+				Assert.assertEquals(i, (int) data.removeBack());
+			}
+			Assert.assertEquals(0, data.chunkCount());
+		}
+	}
+
+	@Test
+	public void testAdaptsToAppends() {
+		ChunkyLinkedList<Integer> data = new ChunkyLinkedList<>(4, 256);
+		List<String> events = new ArrayList<>();
+		data.setAdaptationListener((before, after) -> events.add(before + "->" + after));
+		Assert.assertEquals(32, data.getChunkSize());
+		for (int i = 0; i < 20 * ChunkyLinkedList.ADAPT_WINDOW; i++) {
+			data.addBack(i);
+		}
+		Assert.assertEquals(256, data.getChunkSize());
+		Assert.assertEquals("[32->64, 64->128, 128->256]", events.toString());
+		Assert.assertEquals(3, data.getAdaptations());
+	}
+
+	@Test
+	public void testAdaptsToMiddleInserts() {
+		ChunkyLinkedList<Integer> data = new ChunkyLinkedList<>(4, 256);
+		List<Integer> expected = new ArrayList<>();
+		Random rand = new Random(5);
+		for (int i = 0; i < 8 * ChunkyLinkedList.ADAPT_WINDOW; i++) {
+			int index = 1 + rand.nextInt(expected.size() + 1);
+			if (index >= expected.size()) {
+				index = expected.size() / 2;
+			}
+			data.addIndex(i, index);
+			expected.add(index, i);
+		}
+		Assert.assertEquals(4, data.getChunkSize());
+		Assert.assertTrue(data.getAdaptations() >= 3);
+		// mixing chunk sizes does not lose anything.
+		for (int i = 0; i < 2000; i++) {
+			int index = rand.nextInt(expected.size());
+			Assert.assertEquals(expected.remove(index), data.removeIndex(index));
+		}
+		for (int i = 0; i < expected.size(); i++) {
+			Assert.assertEquals(expected.get(i), data.getIndex(i));
+		}
+		Assert.assertEquals(expected.size(), data.size());
+	}
+
+	@Test
+	public void testFixedNeverAdapts() {
+		ChunkyLinkedList<Integer> data = new ChunkyLinkedList<>(16);
+		for (int i = 0; i < 5 * ChunkyLinkedList.ADAPT_WINDOW; i++) {
+			data.addBack(i);
+		}
+		Assert.assertEquals(16, data.getChunkSize());
+		Assert.assertEquals(0, data.getAdaptations());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testBadAdaptiveSizes() {
+		new ChunkyLinkedList<Integer>(8, 4);
+	}
+
+	@Test
+	public void testForEach() {
+		ChunkyLinkedList<Integer> data = new ChunkyLinkedList<>(4);
+		for (int i = 0; i < 10; i++) {
+			data.addBack(i);
+		}
+		// make the first chunk wrap around inside its array.
+		data.removeFront();
+		data.addFront(0);
+		int expected = 0;
+		for (int x : data) {
+			Assert.assertEquals(expected++, x);
+		}
+		Assert.assertEquals(10, expected);
+		for (int x : new ChunkyLinkedList<Integer>(4)) {
+			Assert.fail("empty list gave " + x);
+		}
+	}
+
+	@Test
+	public void testStreams() {
+		ChunkyLinkedList<Integer> data = new ChunkyLinkedList<>(16);
+		Random rand = new Random(11);
+		long expected = 0;
+		for (int i = 0; i < 10000; i++) {
+			data.addIndex(i, rand.nextInt(data.size() + 1));
+			expected += i;
+		}
+		Assert.assertEquals(expected, data.stream().mapToLong(x -> x).sum());
+		Assert.assertEquals(expected, data.parallelStream().mapToLong(x -> x).sum());
+		Assert.assertEquals(data.getIndex(1234), data.parallelStream().skip(1234).findFirst().get());
+	}
+
+	@Test
+	public void testSpliteratorSplitsAtChunks() {
+		ChunkyLinkedList<Integer> data = new ChunkyLinkedList<>(8);
+		for (int i = 0; i < 100; i++) {
+			data.addBack(i);
+		}
+		Spliterator<Integer> second = data.spliterator();
+		Assert.assertTrue(second.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+		second.tryAdvance(x -> Assert.assertEquals(0, (int) x));
+		Spliterator<Integer> first = second.trySplit();
+		// 13 chunks: the first half gets chunks 0 to 5, minus the item we read.
+		Assert.assertEquals(47, first.estimateSize());
+		Assert.assertEquals(52, second.estimateSize());
+		List<Integer> seen = new ArrayList<>();
+		first.forEachRemaining(seen::add);
+		second.forEachRemaining(seen::add);
+		Assert.assertEquals(99, seen.size());
+		for (int i = 0; i < seen.size(); i++) {
+			Assert.assertEquals(i + 1, (int) seen.get(i));
+		}
+	}
 }
@@ -0,0 +1,123 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ChunkIndexTest {
+
+	/**
+	 * A spine of chunks holding these many items each.
+	 */
+	private static GrowableList<GrowableList<Integer>> chunksOf(int... sizes) {
+		GrowableList<GrowableList<Integer>> chunks = new GrowableList<>();
+		for (int size : sizes) {
+			GrowableList<Integer> chunk = new GrowableList<>();
+			for (int i = 0; i < size; i++) {
+				chunk.addBack(i);
+			}
+			chunks.addBack(chunk);
+		}
+		return chunks;
+	}
+
+	@Test
+	public void testPrefixAndFind() {
+		ChunkIndex index = new ChunkIndex();
+		index.rebuild(chunksOf(3, 1, 4, 1, 5, 9), 5);
+		Assert.assertEquals(5, index.count());
+		Assert.assertEquals(0, index.prefix(0));
+		Assert.assertEquals(3, index.prefix(1));
+		Assert.assertEquals(8, index.prefix(3));
+		Assert.assertEquals(14, index.prefix(5));
+		Assert.assertEquals(0, index.find(0));
+		Assert.assertEquals(0, index.find(2));
+		Assert.assertEquals(1, index.find(3));
+		Assert.assertEquals(2, index.find(4));
+		Assert.assertEquals(4, index.find(13));
+		Assert.assertEquals(5, index.find(14));
+	}
+
+	@Test
+	public void testFindSkipsEmptyChunks() {
+		ChunkIndex index = new ChunkIndex();
+		index.rebuild(chunksOf(2, 0, 0, 2), 4);
+		Assert.assertEquals(3, index.find(2));
+	}
+
+	@Test
+	public void testMatchesSlowSums() {
+		Random rand = new Random(7);
+		int[] sizes = new int[100];
+		ChunkIndex index = new ChunkIndex();
+		for (int i = 0; i < sizes.length; i++) {
+			sizes[i] = 1 + rand.nextInt(8);
+			index.append(sizes[i]);
+		}
+		for (int step = 0; step < 1000; step++) {
+			int chunk = rand.nextInt(sizes.length);
+			sizes[chunk]++;
+			index.add(chunk, 1);
+		}
+		int total = 0;
+		for (int i = 0; i < sizes.length; i++) {
+			Assert.assertEquals(total, index.prefix(i));
+			Assert.assertEquals(i, index.find(total));
+			total += sizes[i];
+			Assert.assertEquals(i, index.find(total - 1));
+		}
+		index.removeLast();
+		Assert.assertEquals(99, index.count());
+		Assert.assertEquals(total - sizes[99], index.prefix(99));
+	}
+
+	@Test
+	public void testFrontChanges() {
+		Random rand = new Random(11);
+		List<Integer> sizes = new ArrayList<>();
+		ChunkIndex index = new ChunkIndex();
+		for (int step = 0; step < 2000; step++) {
+			int choice = rand.nextInt(4);
+			if (choice == 0 || sizes.isEmpty()) {
+				int size = 1 + rand.nextInt(8);
+				if (!index.prepend(size)) {
+					// out of room in front: the owner rebuilds with the new chunk in it.
+					sizes.add(0, size);
+					index.rebuild(chunksOf(toArray(sizes)), sizes.size());
+				} else {
+					sizes.add(0, size);
+				}
+			} else if (choice == 1) {
+				sizes.remove(0);
+				index.removeFirst();
+			} else if (choice == 2) {
+				int size = 1 + rand.nextInt(8);
+				sizes.add(size);
+				index.append(size);
+			} else {
+				int chunk = rand.nextInt(sizes.size());
+				sizes.set(chunk, sizes.get(chunk) + 1);
+				index.add(chunk, 1);
+			}
+			Assert.assertEquals(sizes.size(), index.count());
+			int total = 0;
+			for (int i = 0; i < sizes.size(); i++) {
+				Assert.assertEquals(total, index.prefix(i));
+				Assert.assertEquals(i, index.find(total));
+				total += sizes.get(i);
+			}
+			Assert.assertEquals(sizes.size(), index.find(total));
+		}
+	}
+
+	private static int[] toArray(List<Integer> sizes) {
+		int[] out = new int[sizes.size()];
+		for (int i = 0; i < out.length; i++) {
+			out[i] = sizes.get(i);
+		}
+		return out;
+	}
+}
@@ -0,0 +1,67 @@
+package edu.smith.cs.csc212.p6;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ChunkSizeCalibratorTest {
+
+	private static ChunkSizeCalibrator small(ChunkSizeCalibrator.OpMix mix) {
+		ChunkSizeCalibrator calibrator = new ChunkSizeCalibrator(mix);
+		calibrator.setCandidates(4, 32, 256);
+		calibrator.setInitialSize(2000);
+		calibrator.setOperations(2000);
+		calibrator.setRounds(1);
+		return calibrator;
+	}
+
+	@Test
+	public void testReportsEveryCandidate() {
+		ChunkSizeCalibrator.Config config = small(new ChunkSizeCalibrator.OpMix(5, 2, 2, 1)).calibrate();
+		GrowableList<ChunkSizeCalibrator.Measurement> measurements = config.getMeasurements();
+		Assert.assertEquals(3, measurements.size());
+		Assert.assertEquals(4, measurements.getIndex(0).getChunkSize());
+		Assert.assertEquals(256, measurements.getIndex(2).getChunkSize());
+		for (int i = 0; i < measurements.size(); i++) {
+			Assert.assertTrue(measurements.getIndex(i).getNanosPerOp() > 0);
+			Assert.assertTrue(measurements.getIndex(i).getBytesPerItem() > 0);
+		}
+		int fastest = config.getThroughputOptimal();
+		Assert.assertTrue(fastest == 4 || fastest == 32 || fastest == 256);
+		Assert.assertEquals(fastest, config.newFastestList().getChunkSize());
+		Assert.assertEquals(config.getMemoryOptimal(), config.newSmallestList().getChunkSize());
+	}
+
+	@Test
+	public void testMemoryIsDeterministic() {
+		ChunkSizeCalibrator.OpMix appends = new ChunkSizeCalibrator.OpMix(1, 0, 1, 0);
+		ChunkSizeCalibrator.Config first = small(appends).calibrate();
+		ChunkSizeCalibrator.Config second = small(appends).calibrate();
+		for (int i = 0; i < 3; i++) {
+			Assert.assertEquals(first.getMeasurements().getIndex(i).getBytesPerItem(),
+					second.getMeasurements().getIndex(i).getBytesPerItem(), 0.0);
+		}
+		// with only appends every chunk is full, so the biggest chunks waste least.
+		Assert.assertEquals(256, first.getMemoryOptimal());
+	}
+
+	@Test
+	public void testChecksumCoversEveryRun() {
+		ChunkSizeCalibrator calibrator = new ChunkSizeCalibrator(new ChunkSizeCalibrator.OpMix(0, 0, 0, 1));
+		calibrator.setCandidates(8);
+		calibrator.setInitialSize(10);
+		calibrator.setOperations(10);
+		calibrator.setRounds(2);
+		// a warm-up and two rounds, each removing 0..9.
+		Assert.assertEquals(3 * 45, calibrator.calibrate().checksum);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testEmptyMix() {
+		new ChunkSizeCalibrator.OpMix(0, 0, 0, 0);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testBadCandidate() {
+		small(new ChunkSizeCalibrator.OpMix(1, 1, 1, 1)).setCandidates(16, 0);
+	}
+}
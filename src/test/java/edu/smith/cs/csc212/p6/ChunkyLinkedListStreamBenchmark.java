@@ -0,0 +1,42 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Times a sum over a {@link ChunkyLinkedList} with a plain loop, a sequential
+ * stream and a parallel stream. This is not a unit test; run its main method by
+ * hand, with an optional element count (default ten million) and chunk size
+ * (default 1024). Use a big heap for 100 million, e.g. -Xmx8g.
+ */
+public class ChunkyLinkedListStreamBenchmark {
+
+	public static void main(String[] args) {
+		int n = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+		int chunkSize = args.length > 1 ? Integer.parseInt(args[1]) : 1024;
+		ChunkyLinkedList<Integer> list = new ChunkyLinkedList<>(chunkSize);
+		for (int i = 0; i < n; i++) {
+			list.addBack(i);
+		}
+		System.out.println("n = " + n + ", chunkSize = " + chunkSize + ", common pool parallelism = "
+				+ ForkJoinPool.commonPool().getParallelism());
+		// run a few times so the later rounds are measured after the JIT has warmed up.
+		for (int round = 0; round < 3; round++) {
+			long t0 = System.nanoTime();
+			long loop = 0;
+			for (int x : list) {
+				loop += x;
+			}
+			long t1 = System.nanoTime();
+			long sequential = list.stream().mapToLong(x -> x).sum();
+			long t2 = System.nanoTime();
+			long parallel = list.parallelStream().mapToLong(x -> x).sum();
+			long t3 = System.nanoTime();
+			System.out.printf("  round %d: for-each %5d ms, stream %5d ms, parallelStream %5d ms (%.1fx)%n", round,
+					(t1 - t0) / 1_000_000, (t2 - t1) / 1_000_000, (t3 - t2) / 1_000_000,
+					(double) (t2 - t1) / (t3 - t2));
+			if (loop != sequential || loop != parallel) {
+				throw new AssertionError("sums differ: " + loop + ", " + sequential + ", " + parallel);
+			}
+		}
+	}
+}
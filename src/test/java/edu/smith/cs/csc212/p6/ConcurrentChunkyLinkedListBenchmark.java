@@ -0,0 +1,153 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Times how throughput grows with the number of threads, for a
+ * {@link ConcurrentChunkyLinkedList} and for a {@link ChunkyLinkedList} behind
+ * one global lock. Every thread does a mix of getIndex, addIndex and removeIndex
+ * at random indices, plus addBack and removeFront, so the size stays about the
+ * same. This is not a unit test; run its main method by hand, with an optional
+ * operation count per thread (default 200000), list size (default 100000), chunk
+ * size (default 256) and largest thread count (default 8). Scaling needs more
+ * than one core, of course.
+ */
+public class ConcurrentChunkyLinkedListBenchmark {
+
+	/**
+	 * Run the workload on this many threads at once.
+	 *
+	 * @return operations per millisecond, over all threads.
+	 */
+	private static double run(P6List<Integer> list, int threads, int operations, int size) throws InterruptedException {
+		CountDownLatch start = new CountDownLatch(1);
+		Thread[] workers = new Thread[threads];
+		for (int t = 0; t < threads; t++) {
+			long seed = t;
+			workers[t] = new Thread(() -> {
+				Random rand = new Random(seed);
+				try {
+					start.await();
+				} catch (InterruptedException e) {
+					return;
+				}
+				for (int i = 0; i < operations; i++) {
+					int pick = rand.nextInt(10);
+					// other threads may have shrunk the list a little, so stay below size / 2.
+					int index = rand.nextInt(size / 2);
+					if (pick < 6) {
+						list.getIndex(index);
+					} else if (pick < 8) {
+						list.addIndex(i, index);
+						list.removeIndex(index);
+					} else {
+						list.addBack(i);
+						list.removeFront();
+					}
+				}
+			});
+			workers[t].start();
+		}
+		long t0 = System.nanoTime();
+		start.countDown();
+		for (Thread worker : workers) {
+			worker.join();
+		}
+		long elapsed = System.nanoTime() - t0;
+		return (double) threads * operations / (elapsed / 1_000_000.0);
+	}
+
+	private static <L extends P6List<Integer>> L fill(L list, int size) {
+		for (int i = 0; i < size; i++) {
+			list.addBack(i);
+		}
+		return list;
+	}
+
+	public static void main(String[] args) throws InterruptedException {
+		int operations = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+		int size = args.length > 1 ? Integer.parseInt(args[1]) : 100_000;
+		int chunkSize = args.length > 2 ? Integer.parseInt(args[2]) : 256;
+		int maxThreads = args.length > 3 ? Integer.parseInt(args[3]) : 8;
+		System.out.println("operations/thread = " + operations + ", size = " + size + ", chunkSize = " + chunkSize
+				+ ", cores = " + Runtime.getRuntime().availableProcessors());
+		// warm up both lists so the JIT has compiled them before we time anything.
+		run(fill(new ConcurrentChunkyLinkedList<>(chunkSize), size), 2, operations / 4, size);
+		run(new SynchronizedList<>(fill(new ChunkyLinkedList<>(chunkSize), size)), 2, operations / 4, size);
+
+		for (int threads = 1; threads <= maxThreads; threads *= 2) {
+			double striped = run(fill(new ConcurrentChunkyLinkedList<>(chunkSize), size), threads, operations, size);
+			double global = run(new SynchronizedList<>(fill(new ChunkyLinkedList<>(chunkSize), size)), threads,
+					operations, size);
+			System.out.printf("  %2d threads: striped %8.0f ops/ms, global lock %8.0f ops/ms (%.2fx)%n", threads,
+					striped, global, striped / global);
+		}
+	}
+
+	/**
+	 * Any list, with one lock around every method.
+	 */
+	private static class SynchronizedList<T> implements P6List<T> {
+		private final P6List<T> inner;
+
+		SynchronizedList(P6List<T> inner) {
+			this.inner = inner;
+		}
+
+		@Override
+		public synchronized T removeFront() {
+			return inner.removeFront();
+		}
+
+		@Override
+		public synchronized T removeBack() {
+			return inner.removeBack();
+		}
+
+		@Override
+		public synchronized T removeIndex(int index) {
+			return inner.removeIndex(index);
+		}
+
+		@Override
+		public synchronized void addFront(T item) {
+			inner.addFront(item);
+		}
+
+		@Override
+		public synchronized void addBack(T item) {
+			inner.addBack(item);
+		}
+
+		@Override
+		public synchronized void addIndex(T item, int index) {
+			inner.addIndex(item, index);
+		}
+
+		@Override
+		public synchronized T getFront() {
+			return inner.getFront();
+		}
+
+		@Override
+		public synchronized T getBack() {
+			return inner.getBack();
+		}
+
+		@Override
+		public synchronized T getIndex(int index) {
+			return inner.getIndex(index);
+		}
+
+		@Override
+		public synchronized int size() {
+			return inner.size();
+		}
+
+		@Override
+		public synchronized boolean isEmpty() {
+			return inner.isEmpty();
+		}
+	}
+}
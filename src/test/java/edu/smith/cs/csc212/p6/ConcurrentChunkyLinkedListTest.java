@@ -0,0 +1,271 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+public class ConcurrentChunkyLinkedListTest {
+
+	/**
+	 * Run each task on its own thread and wait for all of them; fail if any threw.
+	 */
+	private static void runAll(List<Runnable> tasks) throws InterruptedException {
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+		List<Thread> threads = new ArrayList<>();
+		for (Runnable task : tasks) {
+			Thread thread = new Thread(() -> {
+				try {
+					task.run();
+				} catch (Throwable t) {
+					failure.compareAndSet(null, t);
+				}
+			});
+			threads.add(thread);
+			thread.start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		if (failure.get() != null) {
+			throw new AssertionError(failure.get());
+		}
+	}
+
+	private static List<Integer> toJava(P6List<Integer> list) {
+		List<Integer> out = new ArrayList<>();
+		for (int i = 0; i < list.size(); i++) {
+			out.add(list.getIndex(i));
+		}
+		return out;
+	}
+
+	@Test
+	public void testAddRemove() {
+		ConcurrentChunkyLinkedList<String> data = new ConcurrentChunkyLinkedList<>(4);
+		Assert.assertEquals(true, data.isEmpty());
+		data.addBack("b");
+		data.addFront("a");
+		data.addBack("d");
+		data.addIndex("c", 2);
+		Assert.assertEquals(4, data.size());
+		Assert.assertEquals("a", data.getFront());
+		Assert.assertEquals("c", data.getIndex(2));
+		Assert.assertEquals("d", data.getBack());
+		Assert.assertEquals("b", data.removeIndex(1));
+		Assert.assertEquals("a", data.removeFront());
+		Assert.assertEquals("d", data.removeBack());
+		Assert.assertEquals("c", data.getFront());
+		Assert.assertEquals(1, data.size());
+		Assert.assertEquals("c", data.removeBack());
+		Assert.assertEquals(true, data.isEmpty());
+		Assert.assertEquals(0, data.chunkCount());
+	}
+
+	@Test(expected = EmptyListError.class)
+	public void testRemoveFrontEmpty() {
+		new ConcurrentChunkyLinkedList<String>(4).removeFront();
+	}
+
+	@Test(expected = EmptyListError.class)
+	public void testGetIndexEmpty() {
+		new ConcurrentChunkyLinkedList<String>(4).getIndex(0);
+	}
+
+	@Test(expected = BadIndexError.class)
+	public void testGetIndexHigh() {
+		ConcurrentChunkyLinkedList<String> data = new ConcurrentChunkyLinkedList<>(4);
+		for (int i = 0; i < 10; i++) {
+			data.addBack("x");
+		}
+		data.getIndex(10);
+	}
+
+	@Test(expected = BadIndexError.class)
+	public void testAddIndexHigh() {
+		ConcurrentChunkyLinkedList<String> data = new ConcurrentChunkyLinkedList<>(4);
+		data.addBack("a");
+		data.addIndex("b", 2);
+	}
+
+	@Test(expected = BadIndexError.class)
+	public void testRemoveIndexLow() {
+		ConcurrentChunkyLinkedList<String> data = new ConcurrentChunkyLinkedList<>(4);
+		data.addBack("a");
+		data.removeIndex(-1);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testBadChunkSize() {
+		new ConcurrentChunkyLinkedList<String>(1);
+	}
+
+	@Test
+	public void testMatchesArrayList() {
+		Random rand = new Random(13);
+		ConcurrentChunkyLinkedList<Integer> data = new ConcurrentChunkyLinkedList<>(8);
+		List<Integer> expected = new ArrayList<>();
+		for (int step = 0; step < 5000; step++) {
+			int op = rand.nextInt(6);
+			if (expected.isEmpty() || op < 2) {
+				int index = rand.nextInt(expected.size() + 1);
+				data.addIndex(step, index);
+				expected.add(index, step);
+			} else if (op == 2) {
+				data.addFront(step);
+				expected.add(0, step);
+			} else if (op == 3) {
+				Assert.assertEquals(expected.remove(expected.size() - 1), data.removeBack());
+			} else if (op == 4) {
+				int index = rand.nextInt(expected.size());
+				Assert.assertEquals(expected.remove(index), data.removeIndex(index));
+			} else {
+				Assert.assertEquals(expected.remove(0), data.removeFront());
+			}
+			Assert.assertEquals(expected.size(), data.size());
+		}
+		Assert.assertEquals(expected, toJava(data));
+	}
+
+	@Test
+	public void testMergesAfterDeletes() {
+		ConcurrentChunkyLinkedList<Integer> data = new ConcurrentChunkyLinkedList<>(8);
+		for (int i = 0; i < 800; i++) {
+			data.addBack(i);
+		}
+		Assert.assertEquals(100, data.chunkCount());
+		// leave one item in every chunk.
+		for (int i = 799; i > 0; i--) {
+			if (i % 8 != 0) {
+				data.removeIndex(i);
+			}
+		}
+		Assert.assertEquals(100, data.size());
+		Assert.assertTrue(data.chunkCount() < 50);
+		for (int i = 0; i < 100; i++) {
+			Assert.assertEquals(i * 8, (int) data.getIndex(i));
+		}
+	}
+
+	@Test
+	public void testParallelEnds() throws InterruptedException {
+		ConcurrentChunkyLinkedList<Integer> data = new ConcurrentChunkyLinkedList<>(16);
+		int perThread = 10000;
+		List<Runnable> tasks = new ArrayList<>();
+		for (int t = 0; t < 4; t++) {
+			int base = t * perThread;
+			boolean front = t % 2 == 0;
+			tasks.add(() -> {
+				for (int i = 0; i < perThread; i++) {
+					if (front) {
+						data.addFront(base + i);
+					} else {
+						data.addBack(base + i);
+					}
+				}
+			});
+		}
+		runAll(tasks);
+		Assert.assertEquals(4 * perThread, data.size());
+		List<Integer> items = toJava(data);
+		Collections.sort(items);
+		for (int i = 0; i < items.size(); i++) {
+			Assert.assertEquals(i, (int) items.get(i));
+		}
+	}
+
+	@Test
+	public void testParallelMiddle() throws InterruptedException {
+		ConcurrentChunkyLinkedList<Integer> data = new ConcurrentChunkyLinkedList<>(16);
+		for (int i = 0; i < 1000; i++) {
+			data.addBack(-1);
+		}
+		int perThread = 2000;
+		List<Runnable> tasks = new ArrayList<>();
+		List<List<Integer>> removed = new ArrayList<>();
+		for (int t = 0; t < 4; t++) {
+			int base = t * perThread;
+			List<Integer> mine = new ArrayList<>();
+			removed.add(mine);
+			tasks.add(() -> {
+				Random rand = new Random(base);
+				for (int i = 0; i < perThread; i++) {
+					// the list never gets smaller than 1000, so these indices are always fine.
+					data.addIndex(base + i, rand.nextInt(1000));
+					data.getIndex(rand.nextInt(1000));
+					mine.add(data.removeIndex(rand.nextInt(1000)));
+				}
+			});
+		}
+		runAll(tasks);
+		Assert.assertEquals(1000, data.size());
+		// every item that went in is either still there or was taken out exactly once.
+		List<Integer> all = toJava(data);
+		for (List<Integer> mine : removed) {
+			all.addAll(mine);
+		}
+		Collections.sort(all);
+		for (int i = 0; i < 1000; i++) {
+			Assert.assertEquals(-1, (int) all.get(i));
+		}
+		for (int i = 0; i < 4 * perThread; i++) {
+			Assert.assertEquals(i, (int) all.get(1000 + i));
+		}
+	}
+
+	@Test
+	public void testParallelStructuralChanges() throws InterruptedException {
+		// tiny chunks, so chunks are made, split, merged and dropped all the time.
+		ConcurrentChunkyLinkedList<Integer> data = new ConcurrentChunkyLinkedList<>(4);
+		for (int i = 0; i < 200; i++) {
+			data.addBack(-1);
+		}
+		int perThread = 5000;
+		List<Runnable> tasks = new ArrayList<>();
+		List<List<Integer>> removed = new ArrayList<>();
+		for (int t = 0; t < 4; t++) {
+			int base = t * perThread;
+			List<Integer> mine = new ArrayList<>();
+			removed.add(mine);
+			tasks.add(() -> {
+				Random rand = new Random(base);
+				for (int i = 0; i < perThread; i++) {
+					switch (rand.nextInt(3)) {
+					case 0:
+						data.addFront(base + i);
+						mine.add(data.removeBack());
+						break;
+					case 1:
+						data.addBack(base + i);
+						mine.add(data.removeFront());
+						break;
+					default:
+						data.addIndex(base + i, rand.nextInt(200));
+						mine.add(data.removeIndex(rand.nextInt(200)));
+						break;
+					}
+				}
+			});
+		}
+		runAll(tasks);
+		Assert.assertEquals(200, data.size());
+		List<Integer> all = toJava(data);
+		for (List<Integer> mine : removed) {
+			all.addAll(mine);
+		}
+		Collections.sort(all);
+		for (int i = 0; i < 200; i++) {
+			Assert.assertEquals(-1, (int) all.get(i));
+		}
+		for (int i = 0; i < 4 * perThread; i++) {
+			Assert.assertEquals(i, (int) all.get(200 + i));
+		}
+	}
+}
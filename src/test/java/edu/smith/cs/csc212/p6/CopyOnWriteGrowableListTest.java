@@ -0,0 +1,149 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+public class CopyOnWriteGrowableListTest {
+
+	@Test
+	public void testAddRemove() {
+		CopyOnWriteGrowableList<String> data = new CopyOnWriteGrowableList<>();
+		Assert.assertEquals(true, data.isEmpty());
+		data.addBack("b");
+		data.addFront("a");
+		data.addBack("d");
+		data.addIndex("c", 2);
+		Assert.assertEquals(4, data.size());
+		Assert.assertEquals("a", data.getFront());
+		Assert.assertEquals("c", data.getIndex(2));
+		Assert.assertEquals("d", data.getBack());
+		Assert.assertEquals("b", data.removeIndex(1));
+		Assert.assertEquals("a", data.removeFront());
+		Assert.assertEquals("d", data.removeBack());
+		Assert.assertEquals("c", data.getFront());
+		Assert.assertEquals(1, data.size());
+	}
+
+	@Test
+	public void testSnapshotDoesNotChange() {
+		CopyOnWriteGrowableList<Integer> data = new CopyOnWriteGrowableList<>();
+		data.addBack(1);
+		data.addBack(2);
+		CopyOnWriteGrowableList.Snapshot<Integer> before = data.snapshot();
+		data.addFront(0);
+		data.removeBack();
+		Assert.assertEquals(2, before.size());
+		Assert.assertEquals(1, (int) before.getFront());
+		Assert.assertEquals(2, (int) before.getBack());
+		Assert.assertEquals(0, (int) data.getFront());
+	}
+
+	@Test
+	public void testUpdateIsOneVersion() {
+		CopyOnWriteGrowableList<Integer> data = new CopyOnWriteGrowableList<>();
+		data.addBack(-1);
+		CopyOnWriteGrowableList.Snapshot<Integer> before = data.snapshot();
+		data.update(list -> {
+			for (int i = 0; i < 100; i++) {
+				list.addBack(i);
+			}
+			list.removeFront();
+			// nobody sees the session until it is over.
+			Assert.assertEquals(1, data.size());
+		});
+		Assert.assertEquals(100, data.size());
+		Assert.assertEquals(0, (int) data.getFront());
+		Assert.assertEquals(99, (int) data.getBack());
+		Assert.assertEquals(1, before.size());
+	}
+
+	@Test
+	public void testFailedUpdatePublishesNothing() {
+		CopyOnWriteGrowableList<Integer> data = new CopyOnWriteGrowableList<>();
+		data.addBack(1);
+		try {
+			data.update(list -> {
+				list.addBack(2);
+				list.getIndex(5);
+			});
+			Assert.fail("should have thrown");
+		} catch (BadIndexError expected) {
+			// good.
+		}
+		Assert.assertEquals(1, data.size());
+	}
+
+	@Test
+	public void testKeptSessionListCannotChangeSnapshot() {
+		CopyOnWriteGrowableList<Integer> data = new CopyOnWriteGrowableList<>();
+		AtomicReference<GrowableList<Integer>> kept = new AtomicReference<>();
+		data.update(list -> {
+			list.addBack(1);
+			list.addBack(2);
+			kept.set(list);
+		});
+		CopyOnWriteGrowableList.Snapshot<Integer> published = data.snapshot();
+		// the session's list is empty and has its own storage now.
+		Assert.assertEquals(0, kept.get().size());
+		kept.get().addFront(99);
+		Assert.assertEquals(2, published.size());
+		Assert.assertEquals(1, (int) published.getFront());
+		Assert.assertEquals(2, (int) data.getBack());
+	}
+
+	@Test(expected = EmptyListError.class)
+	public void testRemoveEmpty() {
+		new CopyOnWriteGrowableList<Integer>().removeFront();
+	}
+
+	@Test(expected = BadIndexError.class)
+	public void testBadIndex() {
+		CopyOnWriteGrowableList<Integer> data = new CopyOnWriteGrowableList<>();
+		data.addBack(1);
+		data.addIndex(2, 2);
+	}
+
+	@Test
+	public void testReadersSeeWholeUpdates() throws InterruptedException {
+		CopyOnWriteGrowableList<Integer> data = new CopyOnWriteGrowableList<>();
+		AtomicBoolean done = new AtomicBoolean(false);
+		AtomicReference<String> problem = new AtomicReference<>();
+		List<Thread> readers = new ArrayList<>();
+		for (int t = 0; t < 4; t++) {
+			Thread reader = new Thread(() -> {
+				while (!done.get()) {
+					// every version holds 0..n-1 for some n.
+					CopyOnWriteGrowableList.Snapshot<Integer> view = data.snapshot();
+					for (int i = 0; i < view.size(); i++) {
+						if (view.getIndex(i) != i) {
+							problem.set("saw " + view.getIndex(i) + " at " + i);
+						}
+					}
+				}
+			});
+			readers.add(reader);
+			reader.start();
+		}
+		for (int round = 0; round < 200; round++) {
+			data.update(list -> {
+				list.addBack(list.size());
+				list.addBack(list.size());
+			});
+			data.removeBack();
+		}
+		done.set(true);
+		for (Thread reader : readers) {
+			reader.join();
+		}
+		Assert.assertEquals(null, problem.get());
+		Assert.assertEquals(200, data.size());
+	}
+}
@@ -4,9 +4,11 @@ import org.junit.Test;
 
 import edu.smith.cs.csc212.p6.errors.BadIndexError;
 import edu.smith.cs.csc212.p6.errors.EmptyListError;
+import edu.smith.cs.csc212.p6.errors.StaleHandleError;
 
 import static org.junit.Assert.assertEquals;
 
+import java.util.ListIterator;
 import java.util.Random;
 
 import org.junit.Assert;
@@ -305,6 +307,114 @@ public class DLLTest {
 		data.addIndex("the", -1);
 	}
 
+	@Test
+	public void testMixedIndexOps() {
+		ListChecks.checkMixedIndexOps(makeEmptyList(), 42);
+	}
+
+	@Test
+	public void testForEach() {
+		DoublyLinkedList<String> data = new DoublyLinkedList<>();
+		data.addBack("a");
+		data.addBack("b");
+		data.addBack("c");
+		StringBuilder seen = new StringBuilder();
+		for (String x : data) {
+			seen.append(x);
+		}
+		Assert.assertEquals("abc", seen.toString());
+	}
+
+	@Test
+	public void testListIteratorRewrite() {
+		DoublyLinkedList<Integer> data = new DoublyLinkedList<>();
+		for (int i = 0; i < 10; i++) {
+			data.addBack(i);
+		}
+		// drop odd numbers, double the rest, and put a -1 after each one.
+		ListIterator<Integer> it = data.listIterator();
+		while (it.hasNext()) {
+			int x = it.next();
+			if (x % 2 == 1) {
+				it.remove();
+			} else {
+				it.set(x * 2);
+				it.add(-1);
+			}
+		}
+		Assert.assertEquals(10, data.size());
+		for (int i = 0; i < 5; i++) {
+			Assert.assertEquals(i * 4, (int) data.getIndex(2 * i));
+			Assert.assertEquals(-1, (int) data.getIndex(2 * i + 1));
+		}
+		Assert.assertEquals(-1, (int) data.getBack());
+	}
+
+	@Test
+	public void testListIteratorBackwards() {
+		DoublyLinkedList<String> data = new DoublyLinkedList<>();
+		data.addBack("a");
+		data.addBack("b");
+		data.addBack("c");
+		ListIterator<String> it = data.listIterator(data.size());
+		Assert.assertEquals("c", it.previous());
+		it.remove();
+		Assert.assertEquals("b", it.previous());
+		it.add("x");
+		Assert.assertEquals(2, it.nextIndex());
+		Assert.assertEquals("x", it.previous());
+		Assert.assertEquals("a", it.previous());
+		Assert.assertEquals(false, it.hasPrevious());
+		it.remove();
+		Assert.assertEquals(2, data.size());
+		Assert.assertEquals("x", data.getFront());
+		Assert.assertEquals("b", data.getBack());
+	}
+
+	@Test
+	public void testHandles() {
+		DoublyLinkedList<String> data = new DoublyLinkedList<>();
+		DoublyLinkedList.Handle<String> b = data.addBackHandle("b");
+		DoublyLinkedList.Handle<String> c = data.addBackHandle("c");
+		DoublyLinkedList.Handle<String> a = data.addFrontHandle("a");
+		Assert.assertEquals("a", data.getFront());
+		Assert.assertEquals("c", data.getBack());
+
+		data.moveToFront(c);
+		Assert.assertEquals("c", data.getIndex(0));
+		Assert.assertEquals("a", data.getIndex(1));
+		Assert.assertEquals("b", data.getIndex(2));
+
+		Assert.assertEquals("a", data.remove(a));
+		Assert.assertEquals(2, data.size());
+		Assert.assertEquals(false, data.contains(a));
+		Assert.assertEquals(true, data.contains(b));
+		Assert.assertEquals("b", data.getBack());
+
+		Assert.assertEquals("b", data.removeBack());
+		Assert.assertEquals(false, data.contains(b));
+		Assert.assertEquals("c", data.remove(c));
+		Assert.assertEquals(true, data.isEmpty());
+	}
+
+	@Test(expected = StaleHandleError.class)
+	public void testStaleHandle() {
+		DoublyLinkedList<String> data = new DoublyLinkedList<>();
+		DoublyLinkedList.Handle<String> a = data.addBackHandle("a");
+		data.addBack("b");
+		data.remove(a);
+		data.moveToFront(a);
+	}
+
+	@Test(expected = StaleHandleError.class)
+	public void testForeignHandle() {
+		DoublyLinkedList<String> data = new DoublyLinkedList<>();
+		DoublyLinkedList<String> other = new DoublyLinkedList<>();
+		DoublyLinkedList.Handle<String> a = other.addBackHandle("a");
+		data.addBack("a");
+		data.remove(a);
+	}
+
 	@Test
 	public void testQueue() {
 		// TODO first in first out? 
@@ -0,0 +1,58 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.function.Supplier;
+
+/**
+ * Compares {@link DoublyLinkedList} against {@link CompactDoublyLinkedList} for
+ * time and memory. This is not a unit test; run its main method by hand, with
+ * an optional element count (default one million).
+ */
+public class DoublyLinkedListBenchmark {
+
+	public static void main(String[] args) {
+		int n = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+		// run twice so the second round is measured after the JIT has warmed up.
+		for (int round = 0; round < 2; round++) {
+			System.out.println("round " + round + ", n = " + n);
+			run("DoublyLinkedList", DoublyLinkedList::new, n);
+			run("CompactDoublyLinkedList", CompactDoublyLinkedList::new, n);
+		}
+	}
+
+	private static void run(String name, Supplier<P6List<Integer>> make, int n) {
+		long before = usedMemory();
+		long t0 = System.nanoTime();
+		P6List<Integer> list = make.get();
+		for (int i = 0; i < n; i++) {
+			list.addBack(i);
+		}
+		long t1 = System.nanoTime();
+		long bytes = usedMemory() - before;
+
+		long sum = 0;
+		for (int i = 0; i < n; i++) {
+			sum += list.getIndex(i);
+		}
+		long t2 = System.nanoTime();
+
+		// churn: take from the front, put on the back, then drain.
+		for (int i = 0; i < n; i++) {
+			list.addBack(list.removeFront());
+		}
+		while (!list.isEmpty()) {
+			sum += list.removeBack();
+		}
+		long t3 = System.nanoTime();
+
+		System.out.printf("  %-24s addBack %6d ms, scan %6d ms, churn %6d ms, ~%d bytes/item (checksum %d)%n", name,
+				(t1 - t0) / 1_000_000, (t2 - t1) / 1_000_000, (t3 - t2) / 1_000_000, bytes / n, sum);
+	}
+
+	private static long usedMemory() {
+		Runtime rt = Runtime.getRuntime();
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		return rt.totalMemory() - rt.freeMemory();
+	}
+}
@@ -8,6 +8,11 @@ import edu.smith.cs.csc212.p6.errors.RanOutOfSpaceError;
 
 import static org.junit.Assert.assertEquals;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
 import org.junit.Assert;
 
 public class FixedSizeListTest {
@@ -240,4 +245,99 @@ public class FixedSizeListTest {
 		data.getIndex(data.size() * 2);
 	}
 
+
+	@Test
+	public void testWrapAround() {
+		FixedSizeList<Integer> data = new FixedSizeList<Integer>(5);
+		// use it as a queue for long enough to wrap many times.
+		for (int i = 0; i < 3; i++) {
+			data.addBack(i);
+		}
+		for (int i = 3; i < 100; i++) {
+			data.addBack(i);
+			Assert.assertEquals(i - 3, (int) data.removeFront());
+			Assert.assertEquals(i - 2, (int) data.getFront());
+			Assert.assertEquals(i, (int) data.getBack());
+		}
+		// and the other way.
+		for (int i = 0; i < 100; i++) {
+			data.addFront(-i);
+			Assert.assertEquals(-i, (int) data.getFront());
+			data.removeBack();
+		}
+		Assert.assertEquals(3, data.size());
+	}
+
+	@Test
+	public void testMixedIndexOps() {
+		ListChecks.checkMixedIndexOps(new FixedSizeList<Integer>(7), 7, 7);
+	}
+
+	@Test
+	public void testSetAndSwapAfterWrap() {
+		FixedSizeList<String> data = new FixedSizeList<String>(4);
+		data.addBack("x");
+		data.addBack("y");
+		data.removeFront();
+		data.removeFront();
+		data.addBack("a");
+		data.addBack("b");
+		data.addBack("c");
+		data.addFront("z");
+		data.setIndex(3, "d");
+		data.swap(0, 3);
+		Assert.assertEquals("d", data.getIndex(0));
+		Assert.assertEquals("a", data.getIndex(1));
+		Assert.assertEquals("b", data.getIndex(2));
+		Assert.assertEquals("z", data.getIndex(3));
+		Assert.assertEquals(2, data.find("b"));
+	}
+
+	@Test
+	public void testBulkOpsAfterWrap() {
+		FixedSizeList<Integer> data = new FixedSizeList<Integer>(13);
+		List<Integer> expected = new ArrayList<>();
+		Random rand = new Random(11);
+		for (int step = 0; step < 3000; step++) {
+			int choice = rand.nextInt(4);
+			if (choice == 0) {
+				// wrap the buffer around a bit.
+				if (!expected.isEmpty()) {
+					data.addBack(data.removeFront());
+					expected.add(expected.remove(0));
+				}
+			} else if (choice == 1) {
+				FixedSizeList<Integer> more = new FixedSizeList<Integer>(4);
+				int count = rand.nextInt(Math.min(4, 13 - expected.size()) + 1);
+				for (int i = 0; i < count; i++) {
+					more.addBack(step * 10 + i);
+				}
+				int index = rand.nextInt(expected.size() + 1);
+				data.addAll(index, more);
+				for (int i = 0; i < count; i++) {
+					expected.add(index + i, step * 10 + i);
+				}
+			} else if (choice == 2) {
+				int from = rand.nextInt(expected.size() + 1);
+				int to = from + rand.nextInt(expected.size() - from + 1);
+				data.removeRange(from, to);
+				expected.subList(from, to).clear();
+			} else if (expected.size() < 13) {
+				int index = rand.nextInt(expected.size() + 1);
+				data.addIndex(step, index);
+				expected.add(index, step);
+			}
+			Integer[] out = new Integer[data.size()];
+			data.copyInto(out, 0);
+			Assert.assertEquals(expected, Arrays.asList(out));
+		}
+	}
+
+	@Test(expected = RanOutOfSpaceError.class)
+	public void testAddAllFull() {
+		FixedSizeList<String> data = new FixedSizeList<String>(3);
+		data.addBack("a");
+		data.addBack("b");
+		data.addAll(1, data);
+	}
 }
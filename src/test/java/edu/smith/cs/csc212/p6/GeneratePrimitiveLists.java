@@ -0,0 +1,62 @@
+package edu.smith.cs.csc212.p6;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Writes the int, long and double list classes from the templates in
+ * src/main/templates. Run its main method from the project directory after
+ * editing a template; {@link PrimitiveListsTest} fails if you forget.
+ */
+public class GeneratePrimitiveLists {
+	static final Path TEMPLATES = Paths.get("src", "main", "templates");
+	static final Path SOURCES = Paths.get("src", "main", "java", "edu", "smith", "cs", "csc212", "p6");
+	static final String[] TEMPLATE_NAMES = { "PrimitiveGrowableList", "PrimitiveFixedSizeList" };
+
+	/**
+	 * The values for the template variables, one row per primitive type: $Type$,
+	 * $prim$, $Boxed$ and $Buffer$.
+	 */
+	static final String[][] TYPES = { //
+			{ "Int", "int", "Integer", "IntBuffer" }, //
+			{ "Long", "long", "Long", "LongBuffer" }, //
+			{ "Double", "double", "Double", "DoubleBuffer" }, //
+	};
+
+	/**
+	 * Fill in a template for one primitive type.
+	 *
+	 * @param template - the template text.
+	 * @param type     - one row of {@link #TYPES}.
+	 * @return the Java source.
+	 */
+	static String expand(String template, String[] type) {
+		return template.replace("$Type$", type[0]).replace("$prim$", type[1]).replace("$Boxed$", type[2])
+				.replace("$Buffer$", type[3]);
+	}
+
+	/**
+	 * Which file does a template and type go to?
+	 */
+	static Path target(String templateName, String[] type) {
+		return SOURCES.resolve(templateName.replace("Primitive", type[0]) + ".java");
+	}
+
+	static String read(Path path) throws IOException {
+		return new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+	}
+
+	public static void main(String[] args) throws IOException {
+		for (String name : TEMPLATE_NAMES) {
+			String template = read(TEMPLATES.resolve(name + ".java.tmpl"));
+			for (String[] type : TYPES) {
+				Path out = target(name, type);
+				Files.write(out, expand(template, type).getBytes(StandardCharsets.UTF_8));
+				System.out.println("wrote " + out);
+			}
+		}
+	}
+}
@@ -8,6 +8,7 @@ import edu.smith.cs.csc212.p6.errors.RanOutOfSpaceError;
 
 import static org.junit.Assert.assertEquals;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Random;
@@ -325,4 +326,133 @@ public class GrowableListTest {
 			}
 		}
 	}
+
+	@Test
+	public void testAddAll() {
+		GrowableList<String> data = new GrowableList<>();
+		data.addBack("a");
+		data.addBack("e");
+		GrowableList<String> middle = new GrowableList<>();
+		middle.addBack("b");
+		middle.addBack("c");
+		middle.addBack("d");
+		data.addAll(1, middle);
+		data.addAll(0, data);
+		Assert.assertEquals(10, data.size());
+		String[] out = new String[12];
+		data.copyInto(out, 1);
+		Assert.assertEquals("[null, a, b, c, d, e, a, b, c, d, e, null]", Arrays.toString(out));
+	}
+
+	@Test
+	public void testAddAllGrows() {
+		GrowableList<Integer> data = new GrowableList<>();
+		SinglyLinkedList<Integer> source = new SinglyLinkedList<>();
+		for (int i = 0; i < GrowableList.START_SIZE * 5; i++) {
+			source.addBack(i);
+		}
+		data.addBack(-1);
+		data.addBack(-2);
+		data.addAll(1, source);
+		Assert.assertEquals(source.size() + 2, data.size());
+		Assert.assertEquals(-1, (int) data.getFront());
+		Assert.assertEquals(-2, (int) data.getBack());
+		for (int i = 0; i < source.size(); i++) {
+			Assert.assertEquals(i, (int) data.getIndex(i + 1));
+		}
+	}
+
+	@Test
+	public void testRemoveRange() {
+		GrowableList<Integer> data = new GrowableList<>();
+		for (int i = 0; i < 10; i++) {
+			data.addBack(i);
+		}
+		data.removeRange(2, 5);
+		Assert.assertEquals(7, data.size());
+		Assert.assertEquals(1, (int) data.getIndex(1));
+		Assert.assertEquals(5, (int) data.getIndex(2));
+		data.removeRange(4, 4);
+		Assert.assertEquals(7, data.size());
+		data.removeRange(0, 7);
+		Assert.assertEquals(true, data.isEmpty());
+	}
+
+	@Test(expected = BadIndexError.class)
+	public void testRemoveRangeBad() {
+		P6List<String> data = makeFullList();
+		((GrowableList<String>) data).removeRange(2, 5);
+	}
+
+	@Test(expected = BadIndexError.class)
+	public void testCopyIntoTooSmall() {
+		GrowableList<String> data = (GrowableList<String>) makeFullList();
+		data.copyInto(new String[5], 2);
+	}
+
+	@Test
+	public void testGrowthPolicies() {
+		GrowableList<Integer> doubling = new GrowableList<>(4);
+		GrowableList<Integer> halves = new GrowableList<>(4, GrowthPolicy.ONE_AND_A_HALF);
+		GrowableList<Integer> additive = new GrowableList<>(4, GrowthPolicy.add(10));
+		for (int i = 0; i < 5; i++) {
+			doubling.addBack(i);
+			halves.addBack(i);
+			additive.addBack(i);
+		}
+		Assert.assertEquals(8, doubling.capacity());
+		Assert.assertEquals(6, halves.capacity());
+		Assert.assertEquals(14, additive.capacity());
+		for (int i = 0; i < 5; i++) {
+			Assert.assertEquals(i, (int) halves.getIndex(i));
+		}
+	}
+
+	@Test
+	public void testEnsureCapacityAndTrim() {
+		GrowableList<String> data = new GrowableList<>(0);
+		Assert.assertEquals(0, data.capacity());
+		data.addBack("a");
+		Assert.assertEquals("a", data.getFront());
+		data.ensureCapacity(100);
+		Assert.assertEquals(true, data.capacity() >= 100);
+		data.addBack("b");
+		data.trimToSize();
+		Assert.assertEquals(2, data.capacity());
+		data.addFront("c");
+		Assert.assertEquals("c", data.getFront());
+		Assert.assertEquals("b", data.getBack());
+	}
+
+	@Test
+	public void testShrinkWithHysteresis() {
+		GrowableList<Integer> data = new GrowableList<>(8, GrowthPolicy.DOUBLING.shrinkBelow(0.25));
+		for (int i = 0; i < 1024; i++) {
+			data.addBack(i);
+		}
+		Assert.assertEquals(1024, data.capacity());
+		// removing down to a quarter full does nothing yet.
+		data.removeRange(256, 1024);
+		Assert.assertEquals(1024, data.capacity());
+		// one more and we shrink to twice the size.
+		data.removeBack();
+		Assert.assertEquals(510, data.capacity());
+		// going back and forth across the line does not resize again.
+		for (int i = 0; i < 10; i++) {
+			data.addBack(i);
+			data.removeBack();
+		}
+		Assert.assertEquals(510, data.capacity());
+		// never below where we started.
+		while (!data.isEmpty()) {
+			data.removeFront();
+		}
+		Assert.assertEquals(8, data.capacity());
+		Assert.assertEquals(0, data.size());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testBadShrinkThreshold() {
+		GrowthPolicy.DOUBLING.shrinkBelow(0.5);
+	}
 }
@@ -0,0 +1,73 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+
+/**
+ * Checks that more than one list's tests share, so they are written once.
+ */
+final class ListChecks {
+	private ListChecks() {
+		// only static methods here.
+	}
+
+	/**
+	 * Do a random mix of adds and removes at both ends and at random indices, and
+	 * compare the whole list against an ArrayList after every change.
+	 *
+	 * @param data - an empty list to test.
+	 * @param seed - picks the operations.
+	 */
+	static void checkMixedIndexOps(P6List<Integer> data, long seed) {
+		checkMixedIndexOps(data, seed, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * The same, for a list that only holds so many items: once it is full, we
+	 * only take items out until there is room again.
+	 *
+	 * @param data     - an empty list to test.
+	 * @param seed     - picks the operations.
+	 * @param capacity - how many items the list can hold.
+	 */
+	static void checkMixedIndexOps(P6List<Integer> data, long seed, int capacity) {
+		List<Integer> expected = new ArrayList<>();
+		Random rand = new Random(seed);
+		for (int step = 0; step < 2000; step++) {
+			int choice = rand.nextInt(6);
+			if (expected.size() >= capacity && choice < 4) {
+				// no room, so take something out instead.
+				choice = 4 + rand.nextInt(2);
+			}
+			if (expected.isEmpty() && choice >= 4) {
+				choice = 0;
+			}
+			if (choice < 2) {
+				int index = rand.nextInt(expected.size() + 1);
+				data.addIndex(step, index);
+				expected.add(index, step);
+			} else if (choice == 2) {
+				data.addFront(step);
+				expected.add(0, step);
+			} else if (choice == 3) {
+				data.addBack(step);
+				expected.add(step);
+			} else if (choice == 4) {
+				int index = rand.nextInt(expected.size());
+				Assert.assertEquals(expected.remove(index), data.removeIndex(index));
+			} else if (rand.nextBoolean()) {
+				Assert.assertEquals(expected.remove(0), data.removeFront());
+			} else {
+				Assert.assertEquals(expected.remove(expected.size() - 1), data.removeBack());
+			}
+			// a sequential scan after every change
+			Assert.assertEquals(expected.size(), data.size());
+			for (int i = 0; i < expected.size(); i++) {
+				Assert.assertEquals(expected.get(i), data.getIndex(i));
+			}
+		}
+	}
+}
@@ -0,0 +1,65 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LruCacheTest {
+
+	@Test
+	public void testGetPut() {
+		LruCache<String, Integer> cache = new LruCache<>(3);
+		Assert.assertEquals(null, cache.get("a"));
+		Assert.assertEquals(null, cache.put("a", 1));
+		Assert.assertEquals(1, (int) cache.get("a"));
+		Assert.assertEquals(1, (int) cache.put("a", 2));
+		Assert.assertEquals(2, (int) cache.get("a"));
+		Assert.assertEquals(1, cache.size());
+		Assert.assertEquals(2, cache.getHits());
+		Assert.assertEquals(1, cache.getMisses());
+	}
+
+	@Test
+	public void testEvictsLeastRecentlyUsed() {
+		List<String> evicted = new ArrayList<>();
+		LruCache<String, Integer> cache = new LruCache<>(3, (k, v) -> evicted.add(k + "=" + v));
+		cache.put("a", 1);
+		cache.put("b", 2);
+		cache.put("c", 3);
+		// a is now more recent than b
+		cache.get("a");
+		cache.put("d", 4);
+		Assert.assertEquals(3, cache.size());
+		Assert.assertEquals(false, cache.containsKey("b"));
+		Assert.assertEquals(true, cache.containsKey("a"));
+		cache.put("e", 5);
+		Assert.assertEquals(false, cache.containsKey("c"));
+		Assert.assertEquals(2, cache.getEvictions());
+		Assert.assertEquals("[b=2, c=3]", evicted.toString());
+	}
+
+	@Test
+	public void testRemoveAndShrink() {
+		LruCache<Integer, Integer> cache = new LruCache<>(10);
+		for (int i = 0; i < 10; i++) {
+			cache.put(i, i * i);
+		}
+		Assert.assertEquals(16, (int) cache.remove(4));
+		Assert.assertEquals(null, cache.remove(4));
+		Assert.assertEquals(0, cache.getEvictions());
+
+		cache.setCapacity(3);
+		Assert.assertEquals(3, cache.size());
+		Assert.assertEquals(6, cache.getEvictions());
+		Assert.assertEquals(true, cache.containsKey(9));
+		Assert.assertEquals(true, cache.containsKey(7));
+		Assert.assertEquals(false, cache.containsKey(6));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testBadCapacity() {
+		new LruCache<String, String>(0);
+	}
+}
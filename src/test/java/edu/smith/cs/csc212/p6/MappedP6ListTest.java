@@ -0,0 +1,122 @@
+package edu.smith.cs.csc212.p6;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import edu.smith.cs.csc212.p6.errors.ClosedListError;
+
+public class MappedP6ListTest {
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testReopen() throws IOException {
+		Path file = folder.getRoot().toPath().resolve("pairs.list");
+		try (MappedP6List<long[]> data = MappedP6List.open(file, OffHeapListTest.PAIRS, 8)) {
+			for (int i = 0; i < 100; i++) {
+				data.addBack(new long[] { i, i * i });
+			}
+			data.removeFront();
+			data.addFront(new long[] { -1, -1 });
+			data.force();
+		}
+		// the segment size comes from the file, not from the caller.
+		try (MappedP6List<long[]> data = MappedP6List.open(file, OffHeapListTest.PAIRS, 1000)) {
+			Assert.assertEquals(100, data.size());
+			Assert.assertArrayEquals(new long[] { -1, -1 }, data.getFront());
+			for (int i = 1; i < 100; i++) {
+				Assert.assertArrayEquals(new long[] { i, i * i }, data.getIndex(i));
+			}
+			data.removeBack();
+			data.addBack(new long[] { 7, 7 });
+			data.addBack(new long[] { 8, 8 });
+		}
+		try (MappedP6List<long[]> data = MappedP6List.open(file, OffHeapListTest.PAIRS)) {
+			Assert.assertEquals(101, data.size());
+			Assert.assertArrayEquals(new long[] { 7, 7 }, data.getIndex(99));
+			Assert.assertArrayEquals(new long[] { 8, 8 }, data.getBack());
+		}
+	}
+
+	@Test
+	public void testGrowsFile() throws IOException {
+		Path file = folder.getRoot().toPath().resolve("ints.list");
+		try (MappedP6List<Integer> data = MappedP6List.open(file, OffHeapListTest.INTS, 10)) {
+			for (int i = 0; i < 25; i++) {
+				data.addBack(i);
+			}
+			data.force();
+		}
+		// header plus three segments of 10 ints.
+		Assert.assertEquals(MappedP6List.HEADER_SIZE + 3 * 10 * 4, Files.size(file));
+	}
+
+	@Test(expected = IOException.class)
+	public void testWrongWidth() throws IOException {
+		Path file = folder.getRoot().toPath().resolve("ints.list");
+		MappedP6List.open(file, OffHeapListTest.INTS).close();
+		MappedP6List.open(file, OffHeapListTest.PAIRS);
+	}
+
+	@Test
+	public void testNotAList() throws IOException {
+		Path file = folder.newFile("junk.txt").toPath();
+		Files.write(file, "hello world".getBytes("UTF-8"));
+		try {
+			MappedP6List.open(file, OffHeapListTest.INTS);
+			Assert.fail("opened a text file as a list");
+		} catch (IOException expected) {
+			// good.
+		}
+		// the file we said no to is just like it was.
+		Assert.assertEquals("hello world", new String(Files.readAllBytes(file), "UTF-8"));
+	}
+
+	@Test
+	public void testBadSegmentSizeMakesNoFile() throws IOException {
+		Path file = folder.getRoot().toPath().resolve("ints.list");
+		try {
+			MappedP6List.open(file, OffHeapListTest.INTS, 0);
+			Assert.fail("made a list with empty segments");
+		} catch (IllegalArgumentException expected) {
+			// good.
+		}
+		Assert.assertEquals(false, Files.exists(file));
+		// so a good value still works afterwards.
+		try (MappedP6List<Integer> data = MappedP6List.open(file, OffHeapListTest.INTS, 10)) {
+			data.addBack(1);
+			Assert.assertEquals(1, (int) data.getFront());
+		}
+	}
+
+	@Test
+	public void testSizeWrittenOnForce() throws IOException {
+		Path file = folder.getRoot().toPath().resolve("ints.list");
+		try (MappedP6List<Integer> data = MappedP6List.open(file, OffHeapListTest.INTS, 10)) {
+			for (int i = 0; i < 5; i++) {
+				data.addBack(i);
+			}
+			data.force();
+			data.addBack(5);
+			data.addBack(6);
+			// the header still has the size from force().
+			Assert.assertEquals(5, ByteBuffer.wrap(Files.readAllBytes(file)).getLong(16));
+		}
+		Assert.assertEquals(7, ByteBuffer.wrap(Files.readAllBytes(file)).getLong(16));
+	}
+
+	@Test(expected = ClosedListError.class)
+	public void testClosed() throws IOException {
+		Path file = folder.getRoot().toPath().resolve("ints.list");
+		MappedP6List<Integer> data = MappedP6List.open(file, OffHeapListTest.INTS);
+		data.close();
+		data.force();
+	}
+}
@@ -0,0 +1,149 @@
+package edu.smith.cs.csc212.p6;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.ClosedListError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+public class OffHeapListTest {
+
+	static final RecordCodec<Integer> INTS = new RecordCodec<Integer>() {
+		@Override
+		public int width() {
+			return 4;
+		}
+
+		@Override
+		public void write(ByteBuffer out, int offset, Integer item) {
+			out.putInt(offset, item);
+		}
+
+		@Override
+		public Integer read(ByteBuffer in, int offset) {
+			return in.getInt(offset);
+		}
+	};
+
+	/**
+	 * The example from the RecordCodec docs: a record of two longs.
+	 */
+	static final RecordCodec<long[]> PAIRS = new RecordCodec<long[]>() {
+		@Override
+		public int width() {
+			return 16;
+		}
+
+		@Override
+		public void write(ByteBuffer out, int offset, long[] item) {
+			out.putLong(offset, item[0]);
+			out.putLong(offset + 8, item[1]);
+		}
+
+		@Override
+		public long[] read(ByteBuffer in, int offset) {
+			return new long[] { in.getLong(offset), in.getLong(offset + 8) };
+		}
+	};
+
+	@Test
+	public void testAddGetRemove() {
+		try (OffHeapList<Integer> data = new OffHeapList<>(INTS, 4)) {
+			Assert.assertEquals(true, data.isEmpty());
+			data.addBack(2);
+			data.addFront(1);
+			data.addBack(4);
+			data.addIndex(3, 2);
+			Assert.assertEquals(4, data.size());
+			Assert.assertEquals(1, (int) data.getFront());
+			Assert.assertEquals(3, (int) data.getIndex(2));
+			Assert.assertEquals(4, (int) data.getBack());
+			Assert.assertEquals(2, (int) data.removeIndex(1));
+			Assert.assertEquals(1, (int) data.removeFront());
+			Assert.assertEquals(4, (int) data.removeBack());
+			Assert.assertEquals(1, data.size());
+			data.setIndex(0, 9);
+			Assert.assertEquals(9, (int) data.getFront());
+		}
+	}
+
+	@Test
+	public void testGrowsBySegments() {
+		try (OffHeapList<long[]> data = new OffHeapList<>(PAIRS, 8)) {
+			for (int i = 0; i < 100; i++) {
+				data.addBack(new long[] { i, -i });
+			}
+			// 100 records in segments of 8 is 13 segments of 128 bytes.
+			Assert.assertEquals(13 * 8 * 16, data.bytesAllocated());
+			for (int i = 0; i < 100; i++) {
+				Assert.assertArrayEquals(new long[] { i, -i }, data.getIndex(i));
+			}
+		}
+	}
+
+	@Test
+	public void testMatchesArrayList() {
+		Random rand = new Random(13);
+		List<Integer> expected = new ArrayList<>();
+		try (OffHeapList<Integer> data = new OffHeapList<>(INTS, 5)) {
+			for (int step = 0; step < 2000; step++) {
+				int choice = rand.nextInt(4);
+				if (choice < 3 || expected.isEmpty()) {
+					int index = rand.nextInt(expected.size() + 1);
+					expected.add(index, step);
+					data.addIndex(step, index);
+				} else {
+					int index = rand.nextInt(expected.size());
+					Assert.assertEquals(expected.remove(index), data.removeIndex(index));
+				}
+				Assert.assertEquals(expected.size(), data.size());
+			}
+			for (int i = 0; i < expected.size(); i++) {
+				Assert.assertEquals(expected.get(i), data.getIndex(i));
+			}
+		}
+	}
+
+	@Test(expected = EmptyListError.class)
+	public void testRemoveEmpty() {
+		try (OffHeapList<Integer> data = new OffHeapList<>(INTS)) {
+			data.removeBack();
+		}
+	}
+
+	@Test(expected = BadIndexError.class)
+	public void testBadIndex() {
+		try (OffHeapList<Integer> data = new OffHeapList<>(INTS)) {
+			data.addBack(1);
+			data.getIndex(1);
+		}
+	}
+
+	@Test
+	public void testClose() {
+		OffHeapList<Integer> data = new OffHeapList<>(INTS, 4);
+		data.addBack(1);
+		data.close();
+		data.close();
+		Assert.assertEquals(true, data.isClosed());
+		Assert.assertEquals(0, data.bytesAllocated());
+		try {
+			data.addBack(2);
+			Assert.fail("should be closed");
+		} catch (ClosedListError expected) {
+			// good.
+		}
+		try {
+			data.getFront();
+			Assert.fail("should be closed");
+		} catch (ClosedListError expected) {
+			// good.
+		}
+	}
+}
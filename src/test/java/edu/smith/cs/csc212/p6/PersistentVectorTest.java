@@ -0,0 +1,104 @@
+package edu.smith.cs.csc212.p6;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+public class PersistentVectorTest {
+
+	@Test
+	public void testEmpty() {
+		PersistentVector<String> data = PersistentVector.empty();
+		Assert.assertEquals(0, data.size());
+		Assert.assertEquals(true, data.isEmpty());
+	}
+
+	@Test(expected = EmptyListError.class)
+	public void testRemoveBackEmpty() {
+		PersistentVector.empty().removeBack();
+	}
+
+	@Test(expected = EmptyListError.class)
+	public void testGetFrontEmpty() {
+		PersistentVector.empty().getFront();
+	}
+
+	@Test(expected = BadIndexError.class)
+	public void testBadIndex() {
+		PersistentVector.<String>empty().addBack("a").getIndex(1);
+	}
+
+	@Test
+	public void testOldVersionsStay() {
+		PersistentVector<String> v0 = PersistentVector.empty();
+		PersistentVector<String> v1 = v0.addBack("a");
+		PersistentVector<String> v2 = v1.addBack("b");
+		PersistentVector<String> v3 = v2.setIndex(0, "z");
+		PersistentVector<String> v4 = v3.removeBack();
+		Assert.assertEquals(0, v0.size());
+		Assert.assertEquals("a", v1.getBack());
+		Assert.assertEquals("a", v2.getFront());
+		Assert.assertEquals("b", v2.getBack());
+		Assert.assertEquals("z", v3.getFront());
+		Assert.assertEquals(1, v4.size());
+		Assert.assertEquals("z", v4.getBack());
+	}
+
+	@Test
+	public void testDeepTree() {
+		// more than 32^3 items, so the tree needs 3 levels above the tail.
+		int n = 40000;
+		PersistentVector<Integer> data = PersistentVector.empty();
+		for (int i = 0; i < n; i++) {
+			data = data.addBack(i);
+		}
+		Assert.assertEquals(n, data.size());
+		for (int i = 0; i < n; i++) {
+			Assert.assertEquals(i, (int) data.getIndex(i));
+		}
+
+		PersistentVector<Integer> changed = data;
+		for (int i = 0; i < n; i += 7) {
+			changed = changed.setIndex(i, -i);
+		}
+		for (int i = 0; i < n; i++) {
+			Assert.assertEquals(i % 7 == 0 ? -i : i, (int) changed.getIndex(i));
+			Assert.assertEquals(i, (int) data.getIndex(i));
+		}
+
+		GrowableList<Integer> copy = changed.toGrowableList();
+		Assert.assertEquals(n, copy.size());
+		Assert.assertEquals(-7, (int) copy.getIndex(7));
+		Assert.assertEquals(n - 1, (int) copy.getBack());
+	}
+
+	@Test
+	public void testRemoveBackToEmpty() {
+		int n = 1100;
+		PersistentVector<Integer> data = PersistentVector.empty();
+		for (int i = 0; i < n; i++) {
+			data = data.addBack(i);
+		}
+		PersistentVector<Integer> full = data;
+		for (int i = n - 1; i >= 0; i--) {
+			Assert.assertEquals(i + 1, data.size());
+			Assert.assertEquals(i, (int) data.getBack());
+			Assert.assertEquals(0, (int) data.getFront());
+			if (i % 97 == 0) {
+				for (int j = 0; j <= i; j++) {
+					Assert.assertEquals(j, (int) data.getIndex(j));
+				}
+				// growing again from a shrunk version works too.
+				PersistentVector<Integer> regrown = data.addBack(-1).addBack(-2);
+				Assert.assertEquals(-2, (int) regrown.getBack());
+				Assert.assertEquals(-1, (int) regrown.getIndex(i + 1));
+			}
+			data = data.removeBack();
+		}
+		Assert.assertEquals(true, data.isEmpty());
+		Assert.assertEquals(n, full.size());
+		Assert.assertEquals(n - 1, (int) full.getBack());
+	}
+}
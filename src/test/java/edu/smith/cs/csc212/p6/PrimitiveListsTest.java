@@ -0,0 +1,116 @@
+package edu.smith.cs.csc212.p6;
+
+import java.io.IOException;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.ReadOnlyBufferException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+import edu.smith.cs.csc212.p6.errors.RanOutOfSpaceError;
+
+public class PrimitiveListsTest {
+
+	@Test
+	public void testGeneratedFromTemplates() throws IOException {
+		for (String name : GeneratePrimitiveLists.TEMPLATE_NAMES) {
+			String template = GeneratePrimitiveLists
+					.read(GeneratePrimitiveLists.TEMPLATES.resolve(name + ".java.tmpl"));
+			for (String[] type : GeneratePrimitiveLists.TYPES) {
+				Assert.assertEquals("Run GeneratePrimitiveLists after editing " + name,
+						GeneratePrimitiveLists.expand(template, type),
+						GeneratePrimitiveLists.read(GeneratePrimitiveLists.target(name, type)));
+			}
+		}
+	}
+
+	@Test
+	public void testIntGrowable() {
+		IntGrowableList data = new IntGrowableList(2);
+		for (int i = 0; i < 100; i++) {
+			data.addInt(i * 3);
+		}
+		Assert.assertEquals(100, data.size());
+		Assert.assertEquals(297, data.getIntBack());
+		data.addIntFront(-1);
+		data.addIntIndex(-2, 50);
+		Assert.assertEquals(-1, data.getIntFront());
+		Assert.assertEquals(-2, data.getInt(50));
+		Assert.assertEquals(-2, data.removeIntIndex(50));
+		Assert.assertEquals(-1, data.removeIntFront());
+		Assert.assertEquals(297, data.removeIntBack());
+		data.setInt(0, 7);
+
+		int[] copy = data.toIntArray();
+		Assert.assertEquals(99, copy.length);
+		Assert.assertEquals(7, copy[0]);
+		IntBuffer view = data.asIntBuffer();
+		Assert.assertEquals(99, view.remaining());
+		Assert.assertEquals(294, view.get(98));
+
+		data.addAllInts(new int[] { 1, 2, 3, 4 }, 1, 3);
+		Assert.assertEquals(101, data.size());
+		Assert.assertEquals(3, data.getIntBack());
+	}
+
+	@Test
+	public void testBoxedLooksLikeP6List() {
+		P6List<Long> data = new LongGrowableList();
+		data.addBack(2L);
+		data.addFront(1L);
+		data.addIndex(5L, 2);
+		Assert.assertEquals(3, data.size());
+		Assert.assertEquals(1L, (long) data.getFront());
+		Assert.assertEquals(5L, (long) data.getBack());
+		Assert.assertEquals(2L, (long) data.removeIndex(1));
+	}
+
+	@Test
+	public void testDoubleFixed() {
+		DoubleFixedSizeList data = new DoubleFixedSizeList(3);
+		data.addDouble(1.5);
+		data.addDoubleFront(0.5);
+		data.addDoubleIndex(1.0, 1);
+		Assert.assertEquals(3, data.capacity());
+		Assert.assertEquals(1.0, data.getDouble(1), 0.0);
+		DoubleBuffer view = data.asDoubleBuffer();
+		Assert.assertEquals(3, view.remaining());
+		Assert.assertEquals(1.5, view.get(2), 0.0);
+		Assert.assertArrayEquals(new double[] { 0.5, 1.0, 1.5 }, data.toDoubleArray(), 0.0);
+	}
+
+	@Test(expected = ReadOnlyBufferException.class)
+	public void testViewIsReadOnly() {
+		IntFixedSizeList data = new IntFixedSizeList(3);
+		data.addInt(1);
+		data.asIntBuffer().put(0, 2);
+	}
+
+	@Test(expected = RanOutOfSpaceError.class)
+	public void testFixedFull() {
+		LongFixedSizeList data = new LongFixedSizeList(1);
+		data.addLong(1);
+		data.addLongFront(2);
+	}
+
+	@Test(expected = RanOutOfSpaceError.class)
+	public void testFixedBulkFull() {
+		IntFixedSizeList data = new IntFixedSizeList(2);
+		data.addAllInts(new int[] { 1, 2, 3 }, 0, 3);
+	}
+
+	@Test(expected = EmptyListError.class)
+	public void testEmpty() {
+		new DoubleGrowableList().removeDoubleBack();
+	}
+
+	@Test(expected = BadIndexError.class)
+	public void testBadIndex() {
+		IntGrowableList data = new IntGrowableList();
+		data.addInt(1);
+		data.getInt(1);
+	}
+}
@@ -0,0 +1,68 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Compares the throughput of {@link RingBufferQueue} against
+ * {@link ArrayBlockingQueue} with the same capacity. This is not a unit test;
+ * run its main method by hand, with an optional message count per producer
+ * (default five million).
+ */
+public class RingBufferQueueBenchmark {
+	private static final int CAPACITY = 1024;
+
+	public static void main(String[] args) throws InterruptedException {
+		int messages = args.length > 0 ? Integer.parseInt(args[0]) : 5_000_000;
+		// run twice so the second round is measured after the JIT has warmed up.
+		for (int round = 0; round < 2; round++) {
+			System.out.println("round " + round + ", " + messages + " messages per producer");
+			RingBufferQueue<Integer> spsc = new RingBufferQueue<>(CAPACITY, RingBufferQueue.Mode.SPSC);
+			run("RingBufferQueue SPSC", 1, messages, spsc::offer, spsc::poll);
+			ArrayBlockingQueue<Integer> abq1 = new ArrayBlockingQueue<>(CAPACITY);
+			run("ArrayBlockingQueue", 1, messages, abq1::offer, abq1::poll);
+
+			for (int threads = 2; threads <= 4; threads *= 2) {
+				RingBufferQueue<Integer> mpmc = new RingBufferQueue<>(CAPACITY, RingBufferQueue.Mode.MPMC);
+				run("RingBufferQueue MPMC", threads, messages, mpmc::offer, mpmc::poll);
+				ArrayBlockingQueue<Integer> abq = new ArrayBlockingQueue<>(CAPACITY);
+				run("ArrayBlockingQueue", threads, messages, abq::offer, abq::poll);
+			}
+		}
+	}
+
+	private static void run(String name, int threads, int messages, Predicate<Integer> offer, Supplier<Integer> poll)
+			throws InterruptedException {
+		Integer message = 42;
+		List<Thread> all = new ArrayList<>();
+		for (int t = 0; t < threads; t++) {
+			all.add(new Thread(() -> {
+				for (int i = 0; i < messages; i++) {
+					while (!offer.test(message)) {
+						Thread.yield();
+					}
+				}
+			}));
+			all.add(new Thread(() -> {
+				for (int i = 0; i < messages; i++) {
+					while (poll.get() == null) {
+						Thread.yield();
+					}
+				}
+			}));
+		}
+		long start = System.nanoTime();
+		for (Thread t : all) {
+			t.start();
+		}
+		for (Thread t : all) {
+			t.join();
+		}
+		long elapsed = System.nanoTime() - start;
+		long total = (long) threads * messages;
+		System.out.printf("  %-22s %d:%d  %8.1f M msgs/s%n", name, threads, threads, total * 1e3 / elapsed);
+	}
+}
@@ -0,0 +1,245 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class RingBufferQueueTest {
+
+	private void checkFifo(RingBufferQueue.Mode mode) {
+		RingBufferQueue<Integer> queue = new RingBufferQueue<>(5, mode);
+		Assert.assertEquals(8, queue.capacity());
+		Assert.assertEquals(true, queue.isEmpty());
+		Assert.assertEquals(null, queue.poll());
+		int next = 0;
+		int expected = 0;
+		// go around the ring many times, never more than half full.
+		for (int round = 0; round < 50; round++) {
+			for (int i = 0; i < 4; i++) {
+				Assert.assertEquals(true, queue.offer(next++));
+			}
+			Assert.assertEquals(4, queue.size());
+			for (int i = 0; i < 4; i++) {
+				Assert.assertEquals(expected++, (int) queue.poll());
+			}
+		}
+		// fill it up.
+		for (int i = 0; i < 8; i++) {
+			Assert.assertEquals(true, queue.offer(i));
+		}
+		Assert.assertEquals(false, queue.offer(8));
+		Assert.assertEquals(8, queue.size());
+		Assert.assertEquals(0, (int) queue.poll());
+		Assert.assertEquals(true, queue.offer(8));
+		for (int i = 1; i <= 8; i++) {
+			Assert.assertEquals(i, (int) queue.poll());
+		}
+		Assert.assertEquals(null, queue.poll());
+	}
+
+	@Test
+	public void testFifoSPSC() {
+		checkFifo(RingBufferQueue.Mode.SPSC);
+	}
+
+	@Test
+	public void testFifoMPMC() {
+		checkFifo(RingBufferQueue.Mode.MPMC);
+	}
+
+	private void checkBatch(RingBufferQueue.Mode mode) {
+		RingBufferQueue<String> queue = new RingBufferQueue<>(4, mode);
+		String[] items = { "a", "b", "c", "d", "e", "f" };
+		Assert.assertEquals(4, queue.offerAll(items, 0, items.length));
+		Assert.assertEquals(0, queue.offerAll(items, 4, items.length));
+
+		GrowableList<String> out = new GrowableList<>();
+		Assert.assertEquals(3, queue.drainTo(out, 3));
+		Assert.assertEquals(2, queue.offerAll(items, 4, items.length));
+		Assert.assertEquals(3, queue.drainTo(out, 100));
+		Assert.assertEquals(0, queue.drainTo(out, 100));
+		Assert.assertEquals(6, out.size());
+		for (int i = 0; i < items.length; i++) {
+			Assert.assertEquals(items[i], out.getIndex(i));
+		}
+	}
+
+	private void checkDrainIntoSmallList(RingBufferQueue.Mode mode) {
+		RingBufferQueue<Integer> queue = new RingBufferQueue<>(8, mode);
+		for (int i = 0; i < 8; i++) {
+			Assert.assertEquals(true, queue.offer(i));
+		}
+		// only three fit, so only three leave the queue.
+		FixedSizeList<Integer> out = new FixedSizeList<>(3);
+		Assert.assertEquals(3, queue.drainTo(out, 100));
+		Assert.assertEquals(5, queue.size());
+		for (int i = 3; i < 8; i++) {
+			Assert.assertEquals(i, (int) queue.poll());
+		}
+		for (int i = 0; i < 8; i++) {
+			Assert.assertEquals(true, queue.offer(i));
+		}
+	}
+
+	@Test
+	public void testDrainIntoSmallListSPSC() {
+		checkDrainIntoSmallList(RingBufferQueue.Mode.SPSC);
+	}
+
+	@Test
+	public void testDrainIntoSmallListMPMC() {
+		checkDrainIntoSmallList(RingBufferQueue.Mode.MPMC);
+	}
+
+	/**
+	 * A list that fails on its third addBack.
+	 */
+	private static class FailingList extends GrowableList<Integer> {
+		@Override
+		public void addBack(Integer item) {
+			if (size() == 2) {
+				throw new IllegalStateException("full");
+			}
+			super.addBack(item);
+		}
+	}
+
+	private void checkDrainSurvivesFailure(RingBufferQueue.Mode mode) {
+		RingBufferQueue<Integer> queue = new RingBufferQueue<>(8, mode);
+		for (int i = 0; i < 8; i++) {
+			queue.offer(i);
+		}
+		FailingList out = new FailingList();
+		try {
+			queue.drainTo(out, 100);
+			Assert.fail("the target should have thrown");
+		} catch (IllegalStateException expected) {
+			// good.
+		}
+		// the list kept what it took, and the rest are still in the queue.
+		Assert.assertEquals(2, out.size());
+		Assert.assertEquals(0, (int) out.getFront());
+		Assert.assertEquals(1, (int) out.getBack());
+		Assert.assertEquals(6, queue.size());
+		for (int i = 2; i < 8; i++) {
+			Assert.assertEquals(i, (int) queue.poll());
+		}
+		// every slot was given back, so the queue fills up again.
+		for (int i = 0; i < 8; i++) {
+			Assert.assertEquals(true, queue.offer(100 + i));
+		}
+		Assert.assertEquals(false, queue.offer(-1));
+	}
+
+	@Test
+	public void testDrainSurvivesFailureSPSC() {
+		checkDrainSurvivesFailure(RingBufferQueue.Mode.SPSC);
+	}
+
+	@Test
+	public void testDrainSurvivesFailureMPMC() {
+		checkDrainSurvivesFailure(RingBufferQueue.Mode.MPMC);
+	}
+
+	@Test
+	public void testBatchSPSC() {
+		checkBatch(RingBufferQueue.Mode.SPSC);
+	}
+
+	@Test
+	public void testBatchMPMC() {
+		checkBatch(RingBufferQueue.Mode.MPMC);
+	}
+
+	@Test(expected = NullPointerException.class)
+	public void testNoNulls() {
+		new RingBufferQueue<String>(4, RingBufferQueue.Mode.SPSC).offer(null);
+	}
+
+	@Test
+	public void testThreadsSPSC() throws InterruptedException {
+		final int count = 200_000;
+		RingBufferQueue<Integer> queue = new RingBufferQueue<>(64, RingBufferQueue.Mode.SPSC);
+		Thread producer = new Thread(() -> {
+			for (int i = 0; i < count; i++) {
+				while (!queue.offer(i)) {
+					Thread.yield();
+				}
+			}
+		});
+		producer.start();
+		for (int i = 0; i < count; i++) {
+			Integer found;
+			while ((found = queue.poll()) == null) {
+				Thread.yield();
+			}
+			Assert.assertEquals(i, (int) found);
+		}
+		producer.join();
+	}
+
+	@Test
+	public void testThreadsMPMC() throws InterruptedException {
+		final int threads = 4;
+		final int each = 50_000;
+		RingBufferQueue<Integer> queue = new RingBufferQueue<>(128, RingBufferQueue.Mode.MPMC);
+		AtomicLong sum = new AtomicLong();
+		AtomicLong taken = new AtomicLong();
+		List<Thread> all = new ArrayList<>();
+		for (int t = 0; t < threads; t++) {
+			final boolean batches = t % 2 == 0;
+			all.add(new Thread(() -> {
+				Integer[] batch = new Integer[8];
+				for (int i = 1; i <= each;) {
+					if (batches && i + batch.length <= each) {
+						for (int j = 0; j < batch.length; j++) {
+							batch[j] = i + j;
+						}
+						int added = queue.offerAll(batch, 0, batch.length);
+						// put the rest of the batch in one at a time.
+						for (int j = added; j < batch.length; j++) {
+							while (!queue.offer(batch[j])) {
+								Thread.yield();
+							}
+						}
+						i += batch.length;
+					} else if (queue.offer(i)) {
+						i++;
+					} else {
+						Thread.yield();
+					}
+				}
+			}));
+			all.add(new Thread(() -> {
+				GrowableList<Integer> out = new GrowableList<>();
+				while (taken.get() < (long) threads * each) {
+					int got = batches ? queue.drainTo(out, 16) : 0;
+					Integer one = got == 0 ? queue.poll() : null;
+					if (one != null) {
+						out.addBack(one);
+						got = 1;
+					}
+					while (!out.isEmpty()) {
+						sum.addAndGet(out.removeBack());
+					}
+					if (got == 0) {
+						Thread.yield();
+					}
+					taken.addAndGet(got);
+				}
+			}));
+		}
+		for (Thread t : all) {
+			t.start();
+		}
+		for (Thread t : all) {
+			t.join();
+		}
+		Assert.assertEquals((long) threads * each, taken.get());
+		Assert.assertEquals((long) threads * each * (each + 1) / 2, sum.get());
+		Assert.assertEquals(true, queue.isEmpty());
+	}
+}
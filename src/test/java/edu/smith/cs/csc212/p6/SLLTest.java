@@ -311,6 +311,31 @@ public class SLLTest {
 		data.addIndex("the", -1);
 	}
 
+	@Test
+	public void testAddBackAfterRemoves() {
+		P6List<String> data = makeFullList();
+		Assert.assertEquals("d", data.removeBack());
+		data.addBack("e");
+		Assert.assertEquals("e", data.getBack());
+		Assert.assertEquals("e", data.removeIndex(3));
+		Assert.assertEquals("c", data.getBack());
+		data.addBack("f");
+		Assert.assertEquals(4, data.size());
+		Assert.assertEquals("f", data.getIndex(3));
+		while (!data.isEmpty()) {
+			data.removeFront();
+		}
+		data.addBack("g");
+		Assert.assertEquals("g", data.getFront());
+		Assert.assertEquals("g", data.getBack());
+		Assert.assertEquals(1, data.size());
+	}
+
+	@Test
+	public void testMixedIndexOps() {
+		ListChecks.checkMixedIndexOps(makeEmptyList(), 42);
+	}
+
 	@Test
 	public void testQueue() {
 		P6List<Integer> data = makeEmptyList();
@@ -0,0 +1,90 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import edu.smith.cs.csc212.p6.errors.RanOutOfSpaceError;
+
+public class SortedFixedSizeListTest {
+
+	private SortedFixedSizeList<Integer> makeList(int... values) {
+		SortedFixedSizeList<Integer> data = new SortedFixedSizeList<>(16, Comparator.naturalOrder());
+		for (int v : values) {
+			data.insertSorted(v);
+		}
+		return data;
+	}
+
+	@Test
+	public void testInsertSorted() {
+		SortedFixedSizeList<Integer> data = makeList(5, 1, 4, 2, 3);
+		Assert.assertEquals(5, data.size());
+		for (int i = 0; i < 5; i++) {
+			Assert.assertEquals(i + 1, (int) data.getIndex(i));
+		}
+		Assert.assertEquals(1, (int) data.getFront());
+		Assert.assertEquals(5, (int) data.getBack());
+	}
+
+	@Test
+	public void testBounds() {
+		SortedFixedSizeList<Integer> data = makeList(1, 3, 3, 3, 7);
+		Assert.assertEquals(1, data.lowerBound(3));
+		Assert.assertEquals(4, data.upperBound(3));
+		Assert.assertEquals(1, data.find(3));
+		Assert.assertEquals(-1, data.find(4));
+		Assert.assertEquals(4, data.lowerBound(4));
+		Assert.assertEquals(0, data.lowerBound(-10));
+		Assert.assertEquals(5, data.upperBound(100));
+	}
+
+	@Test
+	public void testRange() {
+		SortedFixedSizeList<Integer> data = makeList(1, 3, 5, 7, 9);
+		FixedSizeList<Integer> found = data.range(3, 8);
+		Assert.assertEquals(3, found.size());
+		Assert.assertEquals(3, (int) found.getFront());
+		Assert.assertEquals(7, (int) found.getBack());
+		Assert.assertEquals(0, data.range(8, 3).size());
+		Assert.assertEquals(5, data.range(0, 10).size());
+	}
+
+	@Test
+	public void testRemove() {
+		SortedFixedSizeList<Integer> data = makeList(1, 3, 5);
+		Assert.assertEquals(true, data.remove(3));
+		Assert.assertEquals(false, data.remove(3));
+		Assert.assertEquals(2, data.size());
+		Assert.assertEquals(1, data.find(5));
+	}
+
+	@Test
+	public void testRandomAgainstSortedList() {
+		SortedFixedSizeList<Integer> data = new SortedFixedSizeList<>(200, Comparator.reverseOrder());
+		List<Integer> expected = new ArrayList<>();
+		Random rand = new Random(3);
+		for (int i = 0; i < 200; i++) {
+			int value = rand.nextInt(50);
+			data.insertSorted(value);
+			expected.add(value);
+		}
+		Collections.sort(expected, Comparator.reverseOrder());
+		for (int i = 0; i < expected.size(); i++) {
+			Assert.assertEquals(expected.get(i), data.getIndex(i));
+			Assert.assertEquals(expected.indexOf(expected.get(i)), data.find(expected.get(i)));
+		}
+	}
+
+	@Test(expected = RanOutOfSpaceError.class)
+	public void testFull() {
+		SortedFixedSizeList<String> data = new SortedFixedSizeList<>(1, Comparator.naturalOrder());
+		data.insertSorted("a");
+		data.insertSorted("b");
+	}
+}